@@ -3,6 +3,7 @@ plugins {
     java
     id("com.gradleup.shadow") version "9.3.1"
     id("org.danilopianini.gradle-java-qa") version "1.164.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -54,3 +55,16 @@ val test by tasks.getting(Test::class) {
     }
     testLogging.showStandardStreams = true
 }
+
+// Benchmarks live in src/jmh/java, run them with ./gradlew jmh
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // Results are stored as JSON so that releases can be compared, e.g. with jmh.morethan.io
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // A subset can be selected with ./gradlew jmh -Pjmh.includes=Validator
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,54 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Player;
+import com.primus.utils.SimulationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete headless games between the three rule-based bots, from the deal to the winner.
+ * The simulator is seeded, so every trial plays the same sequence of games.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private GameEvent event;
+
+    private GameSimulator simulator;
+
+    /**
+     * Creates the simulator of a Fortuitus, an Implacabilis and a Fallax targeting the first one.
+     */
+    @Setup
+    public void setUp() {
+        simulator = new GameSimulatorImpl(factory -> {
+            final Player victim = factory.createFortuitus(1);
+            return List.of(victim, factory.createImplacabilis(2), factory.createFallax(3, victim));
+        }, event, GameSimulatorImpl.DEFAULT_MAX_TURNS, SEED);
+    }
+
+    /**
+     * Plays the next game of the seeded sequence.
+     *
+     * @return the outcome of the game
+     */
+    @Benchmark
+    public SimulationResult playGame() {
+        return simulator.play();
+    }
+}
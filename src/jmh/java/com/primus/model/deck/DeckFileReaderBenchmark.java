@@ -0,0 +1,39 @@
+package com.primus.model.deck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of the configuration file of every {@link GameEvent}, bypassing the cache of
+ * {@link DeckTemplate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeckFileReaderBenchmark {
+
+    @Param
+    private GameEvent event;
+
+    private final DeckFileReader reader = new DeckFileReader();
+
+    /**
+     * Reads, parses and interns the cards of the event's file.
+     *
+     * @return the cards of the deck
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public List<Card> loadDeck() throws IOException {
+        return reader.loadDeck(event.getFileName());
+    }
+}
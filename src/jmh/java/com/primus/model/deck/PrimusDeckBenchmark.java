@@ -0,0 +1,76 @@
+package com.primus.model.deck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the life cycle of a {@link PrimusDeck}: loading a new game, shuffling and drawing. The deck is
+ * shuffled by a generator with a fixed seed. Recycling the discard pile is measured by
+ * {@link PrimusDeckRefillBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimusDeckBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private GameEvent event;
+
+    private PrimusDeck deck;
+
+    /**
+     * Creates a deck for the event and loads its cards.
+     */
+    @Setup
+    public void setUp() {
+        deck = new PrimusDeck(new SplittableRandom(SEED));
+        deck.setGameEvent(event);
+        deck.init();
+    }
+
+    /**
+     * Loads the cards of a new game and shuffles them.
+     *
+     * @return the loaded deck
+     */
+    @Benchmark
+    public Deck init() {
+        deck.init();
+        return deck;
+    }
+
+    /**
+     * Shuffles the whole deck.
+     *
+     * @return the shuffled deck
+     */
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Draws one card, loading a new game when the deck is empty (once every deck size draws).
+     *
+     * @return the drawn card
+     */
+    @Benchmark
+    public Card drawCard() {
+        if (deck.isEmpty()) {
+            deck.init();
+        }
+        return deck.drawCard();
+    }
+}
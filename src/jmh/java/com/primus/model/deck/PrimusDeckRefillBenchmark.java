@@ -0,0 +1,74 @@
+package com.primus.model.deck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PrimusDeck#refillFrom(DropPile)} alone: before every invocation the deck is played onto the
+ * discard pile until only {@code remaining} cards are left, outside of the measured time. With no card left the
+ * deck takes over the pile's storage; otherwise the recycled cards are slid under the remaining ones.
+ *
+ * <p>
+ * The per-invocation setup costs a few timestamps per call, small but not negligible next to a refill of about a
+ * hundred cards: compare the events and the number of remaining cards with each other, not with the other deck
+ * benchmarks.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimusDeckRefillBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private GameEvent event;
+
+    @Param({"0", "3"})
+    private int remaining;
+
+    private PrimusDeck deck;
+    private PrimusDropPile pile;
+
+    /**
+     * Creates a deck for the event and loads its cards.
+     */
+    @Setup
+    public void setUp() {
+        deck = new PrimusDeck(new SplittableRandom(SEED));
+        deck.setGameEvent(event);
+        deck.init();
+        pile = new PrimusDropPile();
+    }
+
+    /**
+     * Plays the deck onto the discard pile until only the remaining cards are left, as in a long game.
+     */
+    @Setup(Level.Invocation)
+    public void playDeck() {
+        while (deck.size() > remaining) {
+            pile.addCard(deck.drawCard());
+        }
+    }
+
+    /**
+     * Refills the deck from the discard pile.
+     *
+     * @return the refilled deck
+     */
+    @Benchmark
+    public Deck refillFrom() {
+        deck.refillFrom(pile);
+        return deck;
+    }
+}
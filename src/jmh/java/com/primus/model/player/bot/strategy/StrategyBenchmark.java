@@ -0,0 +1,227 @@
+package com.primus.model.player.bot.strategy;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Hand;
+import com.primus.model.player.bot.OpponentInfo;
+import com.primus.model.player.bot.OpponentModel;
+import com.primus.model.player.bot.TableObservation;
+import com.primus.model.player.bot.UnseenCardTracker;
+import com.primus.model.player.bot.strategy.card.AggressiveStrategy;
+import com.primus.model.player.bot.strategy.card.CardStrategy;
+import com.primus.model.player.bot.strategy.card.CheaterStrategy;
+import com.primus.model.player.bot.strategy.card.IsmctsStrategy;
+import com.primus.model.player.bot.strategy.card.RandomStrategy;
+import com.primus.model.player.bot.strategy.color.ColorStrategy;
+import com.primus.model.player.bot.strategy.color.IsmctsColorStrategy;
+import com.primus.model.player.bot.strategy.color.MostFrequentColorStrategy;
+import com.primus.model.player.bot.strategy.color.RandomColorStrategy;
+import com.primus.model.rules.PrecomputedValidator;
+import com.primus.utils.SearchBudget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single decision of every {@link CardStrategy} and {@link ColorStrategy}, on a position dealt from
+ * the standard deck with a fixed seed: a bot holding {@value #HAND_SIZE} cards, at least {@value #MIN_CANDIDATES} of
+ * them playable, against one opponent.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StrategyBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int HAND_SIZE = 7;
+    private static final int SELF = 1;
+    private static final int OPPONENT = 2;
+    private static final int SEARCH_ITERATIONS = 200;
+    private static final int MIN_CANDIDATES = 2;
+
+    /**
+     * The card strategies under measure.
+     */
+    public enum CardStrategyKind {
+        /** {@link RandomStrategy}. */
+        RANDOM,
+        /** {@link AggressiveStrategy}. */
+        AGGRESSIVE,
+        /** {@link CheaterStrategy} reading the opponent's hand. */
+        CHEATER,
+        /** {@link CheaterStrategy} reading an {@link OpponentModel}. */
+        CHEATER_FAIR,
+        /** {@link IsmctsStrategy} with a single-threaded budget of 200 iterations. */
+        ISMCTS
+    }
+
+    /**
+     * The color strategies under measure.
+     */
+    public enum ColorStrategyKind {
+        /** {@link RandomColorStrategy}. */
+        RANDOM,
+        /** {@link MostFrequentColorStrategy} without card counting. */
+        MOST_FREQUENT,
+        /** {@link MostFrequentColorStrategy} with an {@link UnseenCardTracker}. */
+        MOST_FREQUENT_TRACKED,
+        /** {@link IsmctsColorStrategy}, falling back when no search chose a Wild card. */
+        ISMCTS
+    }
+
+    /**
+     * Chooses a card among the legal ones.
+     *
+     * @param state the strategy and its position
+     * @return the chosen card
+     */
+    @Benchmark
+    public Optional<Card> chooseCard(final CardState state) {
+        return state.strategy.chooseCard(state.position.candidates);
+    }
+
+    /**
+     * Chooses the color of a Wild card.
+     *
+     * @param state the strategy and its position
+     * @return the chosen color
+     */
+    @Benchmark
+    public Color chooseColor(final ColorState state) {
+        return state.strategy.chooseColor(state.position.hand.asList());
+    }
+
+    /**
+     * A card strategy deciding on the benchmark position.
+     */
+    @State(Scope.Thread)
+    public static class CardState {
+
+        @Param
+        private CardStrategyKind kind;
+
+        private Position position;
+        private CardStrategy strategy;
+
+        /**
+         * Deals the position and creates the strategy.
+         */
+        @Setup
+        public void setUp() {
+            position = new Position();
+            strategy = switch (kind) {
+                case RANDOM -> new RandomStrategy(position.random.split());
+                case AGGRESSIVE -> new AggressiveStrategy();
+                case CHEATER -> new CheaterStrategy(new FixedOpponent(position.opponentHand));
+                case CHEATER_FAIR -> new CheaterStrategy(position.opponents.viewOf(OPPONENT), position.tracker);
+                case ISMCTS -> position.search;
+            };
+        }
+    }
+
+    /**
+     * A color strategy deciding on the benchmark position.
+     */
+    @State(Scope.Thread)
+    public static class ColorState {
+
+        @Param
+        private ColorStrategyKind kind;
+
+        private Position position;
+        private ColorStrategy strategy;
+
+        /**
+         * Deals the position and creates the strategy.
+         */
+        @Setup
+        public void setUp() {
+            position = new Position();
+            strategy = switch (kind) {
+                case RANDOM -> new RandomColorStrategy(position.random.split());
+                case MOST_FREQUENT -> new MostFrequentColorStrategy();
+                case MOST_FREQUENT_TRACKED -> new MostFrequentColorStrategy(position.tracker);
+                case ISMCTS -> new IsmctsColorStrategy(position.search);
+            };
+        }
+    }
+
+    /**
+     * The position every strategy decides on, with its observers fed with the start of the game.
+     */
+    private static final class Position {
+        private final SplittableRandom random = new SplittableRandom(SEED);
+        private final Hand hand = new Hand();
+        private final List<Card> opponentHand = new ArrayList<>();
+        private final List<Card> candidates = new ArrayList<>();
+        private final TableObservation observation = new TableObservation(SELF, hand.asList());
+        private final OpponentModel opponents = new OpponentModel(observation);
+        private final UnseenCardTracker tracker = new UnseenCardTracker(observation, hand);
+        private final IsmctsStrategy search;
+
+        private Position() {
+            final List<Card> deck = new ArrayList<>(DeckTemplate.forEvent(GameEvent.STANDARD).getCards());
+            for (int i = deck.size() - 1; i > 0; i--) {
+                deck.set(i, deck.set(random.nextInt(i + 1), deck.get(i)));
+            }
+            for (int i = 0; i < HAND_SIZE; i++) {
+                hand.add(deck.remove(deck.size() - 1));
+                opponentHand.add(deck.remove(deck.size() - 1));
+            }
+            // The first card of the deck leaving a real choice to the bot is the top card
+            final PrecomputedValidator rules = PrecomputedValidator.forEvent(GameEvent.STANDARD);
+            Card top = null;
+            while (candidates.size() < MIN_CANDIDATES) {
+                top = deck.remove(deck.size() - 1);
+                candidates.clear();
+                for (final Card card : hand.asList()) {
+                    if (rules.isValidCard(top, card)) {
+                        candidates.add(card);
+                    }
+                }
+            }
+
+            observation.onGameStarted(GameEvent.STANDARD, top);
+            for (final int id : List.of(SELF, OPPONENT)) {
+                observation.onPlayerSeated(id, HAND_SIZE, true);
+            }
+            search = new IsmctsStrategy(observation,
+                    new SearchBudget(SEARCH_ITERATIONS, SearchBudget.NO_TIME_LIMIT, 1), random.split());
+        }
+    }
+
+    /**
+     * An opponent whose hand never changes.
+     *
+     * @param hand the cards of the opponent
+     */
+    private record FixedOpponent(List<Card> hand) implements OpponentInfo {
+
+        @Override
+        public int getId() {
+            return OPPONENT;
+        }
+
+        @Override
+        public List<Card> getHand() {
+            return hand;
+        }
+
+        @Override
+        public int getCardCount() {
+            return hand.size();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of a move, by the rules on {@link Card} objects and by the precomputed tables.
+ * Every invocation checks the same {@value #PAIRS} pairs of cards, drawn with a fixed seed from the event's deck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private static final int PAIRS = 1024;
+    private static final long SEED = 42L;
+
+    @Param
+    private GameEvent event;
+
+    private final Validator validator = new ValidatorImpl();
+    private PrecomputedValidator precomputed;
+    private final Card[] tops = new Card[PAIRS];
+    private final Card[] cards = new Card[PAIRS];
+
+    /**
+     * Draws the pairs of cards checked by every invocation.
+     */
+    @Setup
+    public void setUp() {
+        final List<Card> deck = DeckTemplate.forEvent(event).getCards();
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < PAIRS; i++) {
+            tops[i] = deck.get(random.nextInt(deck.size()));
+            cards[i] = deck.get(random.nextInt(deck.size()));
+        }
+        precomputed = PrecomputedValidator.forEvent(event);
+    }
+
+    /**
+     * Checks the pairs with {@link ValidatorImpl#isValidCard(Card, Card)}.
+     *
+     * @return the number of valid moves
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int isValidCard() {
+        int valid = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (validator.isValidCard(tops[i], cards[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks the pairs with {@link ValidatorImpl#isValidDefense(Card, Card)}.
+     *
+     * @return the number of valid defenses
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int isValidDefense() {
+        int valid = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (validator.isValidDefense(tops[i], cards[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks the pairs with {@link PrecomputedValidator#isValidCard(Card, Card)}, as a baseline.
+     *
+     * @return the number of valid moves
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int precomputedIsValidCard() {
+        int valid = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (precomputed.isValidCard(tops[i], cards[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
@@ -1,8 +1,12 @@
 package com.primus.controller;
 
+import com.primus.metrics.Histogram;
+import com.primus.metrics.Metrics;
+import com.primus.metrics.ViewUpdateEvent;
 import com.primus.model.core.GameManager;
 import com.primus.model.deck.Card;
 import com.primus.model.player.Player;
+import com.primus.utils.GameState;
 import com.primus.utils.PlayerSetupData;
 import com.primus.view.GameView;
 
@@ -25,11 +29,13 @@ public final class GameControllerImpl implements GameController {
     private static final int MIN_BOT_DELAY = 1500;
     private static final Logger LOGGER = LoggerFactory.getLogger(GameControllerImpl.class);
     private static final Random RANDOM = new Random();
+    private static final Histogram HUMAN_WAIT = Metrics.getRegistry().histogram(Metrics.HUMAN_WAIT);
 
     private final GameManager manager;
     private final List<GameView> views = new ArrayList<>();
     private CompletableFuture<Card> humanInputFuture;
     private CompletableFuture<Boolean> playAgainFuture;
+    private long publishedVersion = -1;
 
     // Flag to control the game loop, accessed from multiple threads (start/stop)
     @SuppressWarnings("PMD.SingularField")
@@ -53,10 +59,8 @@ public final class GameControllerImpl implements GameController {
         while (isRunning) {
             manager.init();
 
-            views.forEach(v -> {
-                v.initGame(manager.getGameSetup());
-                v.updateView(manager.getGameState());
-            });
+            views.forEach(v -> v.initGame(manager.getGameSetup()));
+            publishState();
 
             LOGGER.info("Game loop is starting");
 
@@ -66,10 +70,8 @@ public final class GameControllerImpl implements GameController {
 
                 LOGGER.debug("Starting turn for player with ID: {}", currentPlayer.getId());
 
-                views.forEach(v -> {
-                    v.showCurrentPlayer(currentPlayer.getId());
-                    v.updateView(manager.getGameState());
-                });
+                views.forEach(v -> v.showCurrentPlayer(currentPlayer.getId()));
+                publishState();
 
                 // Management of turn based on player type
                 if (currentPlayer.isBot()) {
@@ -78,7 +80,7 @@ public final class GameControllerImpl implements GameController {
                     handleHumanTurn(currentPlayer);
                 }
 
-                views.forEach(v -> v.updateView(manager.getGameState()));
+                publishState();
 
             }
 
@@ -88,8 +90,9 @@ public final class GameControllerImpl implements GameController {
                 break;
             }
 
-            if (manager.getWinner().isPresent()) {
-                final int winnerId = manager.getWinner().get();
+            final Optional<Integer> winner = manager.getWinner();
+            if (winner.isPresent()) {
+                final int winnerId = winner.get();
 
                 // Try to get the winner's name from the game setup, fallback to "Giocatore {ID}" if not found
                 final String winnerName = manager.getGameSetup().stream().filter(p -> p.id() == winnerId)
@@ -113,11 +116,13 @@ public final class GameControllerImpl implements GameController {
                     }
                 } catch (InterruptedException | ExecutionException e) {
                     LOGGER.error("Error while waiting for game over choice", e);
+                    manager.dumpJournal("game over choice failed");
                     Thread.currentThread().interrupt();
                     this.isRunning = false;
                 }
             } else {
                 LOGGER.warn("Game ended without a winner");
+                manager.dumpJournal("game ended without a winner");
             }
         }
         LOGGER.info("Game loop terminated. Closing views...");
@@ -207,12 +212,12 @@ public final class GameControllerImpl implements GameController {
         // Loop until the bot completes its turn in a valid way
         while (!turnCompleted) {
 
-            // Ask the bot for its intention
-            final Optional<Card> intention = player.playCard();
+            // Ask the bot for its intention, among the moves the rules allow
+            final Optional<Card> intention = player.playCard(manager.getLegalMoves());
 
             // Bot decides to draw a card
             if (intention.isEmpty()) {
-                LOGGER.info("BOT {} drawed a car.", player.getId());
+                LOGGER.debug("BOT {} drawed a car.", player.getId());
                 manager.executeTurn(null);
                 views.forEach(v -> v.showMessage(player.getName() + " ha pescato."));
 
@@ -221,7 +226,7 @@ public final class GameControllerImpl implements GameController {
                 // Bot decides to play a card
                 final Card cardToPlay = intention.get();
 
-                LOGGER.info("BOT {} trying to play {}", player.getId(), cardToPlay);
+                LOGGER.debug("BOT {} trying to play {}", player.getId(), cardToPlay);
 
                 // Try to execute the turn with the chosen card
                 final boolean moveAccepted = manager.executeTurn(cardToPlay);
@@ -233,10 +238,11 @@ public final class GameControllerImpl implements GameController {
                 } else {
                     // If move not accepted, bot must choose again
                     LOGGER.warn("BOT move rejected: {} tried to play {}.", player.getId(), cardToPlay);
+                    manager.dumpJournal("bot move rejected");
                 }
             }
         }
-        views.forEach(v -> v.updateView(manager.getGameState()));
+        publishState();
     }
 
     /**
@@ -257,7 +263,9 @@ public final class GameControllerImpl implements GameController {
                 this.humanInputFuture = new CompletableFuture<>();
 
                 // Await user input (either play a card or draw) from the view
+                final long start = HUMAN_WAIT.start();
                 final Card chosenCard = this.humanInputFuture.get();
+                HUMAN_WAIT.recordSince(start);
 
                 LOGGER.debug("Processing human move: {}", chosenCard == null ? "Draw a card" : chosenCard);
 
@@ -265,10 +273,10 @@ public final class GameControllerImpl implements GameController {
                 final boolean moveAccepted = manager.executeTurn(chosenCard);
 
                 if (moveAccepted) {
-                    LOGGER.info("Human move accepted");
+                    LOGGER.debug("Human move accepted");
                     turnCompleted = true;
                 } else {
-                    LOGGER.info("Human move rejected. A new move is requested");
+                    LOGGER.debug("Human move rejected. A new move is requested");
                     views.forEach(v -> v.showError("Mossa non valida! Riprova."));
                     // If move not accepted, human must choose again
                 }
@@ -276,6 +284,7 @@ public final class GameControllerImpl implements GameController {
             } catch (InterruptedException | ExecutionException e) {
                 // If thread is interrupted the game should stop gracefully
                 LOGGER.error("Crtitical error during human shift (Thread interrupted or ExecutionException)", e);
+                manager.dumpJournal("human turn failed");
                 stop();
                 Thread.currentThread().interrupt();
             } catch (final java.util.concurrent.CancellationException e) {
@@ -286,6 +295,23 @@ public final class GameControllerImpl implements GameController {
         }
     }
 
+    /**
+     * Sends the game state to the views, unless they already received this version of it.
+     */
+    private void publishState() {
+        final long version = manager.getStateVersion();
+        if (version == publishedVersion) {
+            LOGGER.debug("Game state unchanged (version {}), views not updated", version);
+            return;
+        }
+        final ViewUpdateEvent event = new ViewUpdateEvent();
+        event.begin();
+        final GameState state = manager.getGameState();
+        views.forEach(v -> v.updateView(state));
+        event.complete(ViewUpdateEvent.PUBLISH, state.version());
+        publishedVersion = state.version();
+    }
+
     /**
      * Sleeps the current thread for a specified duration.
      */
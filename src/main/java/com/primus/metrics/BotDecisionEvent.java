@@ -0,0 +1,57 @@
+package com.primus.metrics;
+
+import com.primus.model.deck.Card;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Optional;
+
+/**
+ * Flight Recorder event spanning the choice of a move by a bot, color of Wild cards included.
+ */
+@Name("com.primus.BotDecision")
+@Label("Bot Decision")
+@Category({"Primus", "Bot"})
+@Description("A move chosen by the strategies of a bot")
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class BotDecisionEvent extends Event {
+
+    @Label("Bot")
+    private int botId;
+
+    @Label("Strategy")
+    @Description("The class of the card strategy")
+    private String strategy;
+
+    @Label("Candidates")
+    @Description("The number of cards the strategy could choose from")
+    private int candidates;
+
+    @Label("Card")
+    @Description("The card chosen, absent if the bot passes")
+    private String card;
+
+    /**
+     * Ends the event and commits it with the decision taken, if the recording asks for it.
+     *
+     * @param bot     the deciding bot
+     * @param name    the name of the card strategy
+     * @param choices the number of candidate cards
+     * @param chosen  the chosen card, empty if the bot passes
+     */
+    public void complete(final int bot, final String name, final int choices, final Optional<Card> chosen) {
+        end();
+        if (shouldCommit()) {
+            this.botId = bot;
+            this.strategy = name;
+            this.candidates = choices;
+            this.card = chosen.map(Card::toString).orElse(null);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.primus.metrics;
+
+/**
+ * A monotonic count of occurrences, such as rejected moves or deck refills.
+ * Counters can be incremented concurrently by any thread.
+ */
+public interface Counter {
+
+    /**
+     * Adds one occurrence.
+     */
+    void increment();
+
+    /**
+     * Adds the given number of occurrences.
+     *
+     * @param amount the occurrences to add, must be non-negative
+     */
+    void add(long amount);
+
+    /**
+     * Returns the occurrences counted so far.
+     *
+     * @return the current count
+     */
+    long getCount();
+}
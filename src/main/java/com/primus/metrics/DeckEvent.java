@@ -0,0 +1,59 @@
+package com.primus.metrics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning an operation on the whole deck. Loading a deck or refilling it is followed by
+ * a shuffle, which is reported by its own {@link #SHUFFLE} event once the {@link #INIT} or {@link #REFILL} one
+ * has ended: deck events never nest, so their durations can be summed.
+ */
+@Name("com.primus.Deck")
+@Label("Deck Operation")
+@Category({"Primus", "Deck"})
+@Description("A deck loaded, shuffled or refilled from the discard pile")
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class DeckEvent extends Event {
+
+    /**
+     * The cards of a new game are loaded.
+     */
+    public static final String INIT = "init";
+
+    /**
+     * The deck is shuffled.
+     */
+    public static final String SHUFFLE = "shuffle";
+
+    /**
+     * The discard pile is recycled into the deck.
+     */
+    public static final String REFILL = "refill";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Cards")
+    @Description("The cards in the deck after the operation")
+    private int cards;
+
+    /**
+     * Ends the event and commits it, if the recording asks for it.
+     *
+     * @param kind  the operation, one of {@link #INIT}, {@link #SHUFFLE} or {@link #REFILL}
+     * @param count the cards in the deck after the operation
+     */
+    public void complete(final String kind, final int count) {
+        end();
+        if (shouldCommit()) {
+            this.operation = kind;
+            this.cards = count;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.primus.metrics;
+
+/**
+ * The distribution of a non-negative quantity, such as a latency in nanoseconds or the length of a malus chain.
+ * Values are grouped in power-of-two buckets, so percentiles are upper bounds at most twice the exact value.
+ * Histograms can be updated concurrently by any thread.
+ */
+public interface Histogram {
+
+    /**
+     * Records a value.
+     *
+     * @param value the value to record, negative values are recorded as 0
+     */
+    void record(long value);
+
+    /**
+     * Starts timing an operation whose duration is recorded by {@link #recordSince(long)}.
+     *
+     * @return the current time in nanoseconds, or 0 if the histogram does not record anything
+     */
+    long start();
+
+    /**
+     * Records the nanoseconds elapsed since an operation started.
+     *
+     * @param start the value returned by {@link #start()} when the operation started
+     */
+    void recordSince(long start);
+
+    /**
+     * Returns how many values have been recorded.
+     *
+     * @return the number of recorded values
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, 0 if nothing was recorded
+     */
+    double getMean();
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum, 0 if nothing was recorded
+     */
+    long getMax();
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded values.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, 0 if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    long getPercentile(double percentile);
+}
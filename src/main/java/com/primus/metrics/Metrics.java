@@ -0,0 +1,87 @@
+package com.primus.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Holds the registry shared by the whole application and publishes it over JMX.
+ * Metrics are recorded unless the JVM is started with {@code -D}{@value #ENABLED_PROPERTY}{@code =false}.
+ */
+public final class Metrics {
+
+    /**
+     * The system property enabling the metrics, {@code true} by default.
+     */
+    public static final String ENABLED_PROPERTY = "primus.metrics";
+
+    /**
+     * The JMX name of the shared registry.
+     */
+    public static final String OBJECT_NAME = "com.primus:type=Metrics";
+
+    /**
+     * Nanoseconds taken by {@code GameManager.executeTurn}, including rejected moves.
+     */
+    public static final String TURN_LATENCY = "turn.latency";
+
+    /**
+     * Moves refused by the rules, played cards and defenses alike.
+     */
+    public static final String REJECTED_MOVES = "turn.rejected";
+
+    /**
+     * Number of malus cards stacked before a player accepted the malus.
+     */
+    public static final String MALUS_CHAIN = "malus.chain";
+
+    /**
+     * Refills of the deck from the discard pile.
+     */
+    public static final String REFILLS = "deck.refills";
+
+    /**
+     * Prefix of the nanoseconds taken by a bot to decide its move, followed by the name of its card strategy.
+     */
+    public static final String BOT_DECISION_PREFIX = "bot.decision.";
+
+    /**
+     * Nanoseconds the controller waited for the human player's move.
+     */
+    public static final String HUMAN_WAIT = "human.wait";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Metrics.class);
+    private static final MetricsRegistry REGISTRY = createRegistry();
+
+    private Metrics() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the registry shared by the whole application.
+     *
+     * @return the shared registry, disabled if metrics were turned off at startup
+     */
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    private static MetricsRegistry createRegistry() {
+        final boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+        final MetricsRegistry registry = new MetricsRegistryImpl(enabled);
+        if (enabled) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(
+                        new StandardMBean(registry, MetricsMXBean.class, true), new ObjectName(OBJECT_NAME));
+            } catch (final JMException e) {
+                // Metrics are still recorded, they just cannot be read from a JMX console
+                LOGGER.warn("Metrics could not be published over JMX", e);
+            }
+        }
+        return registry;
+    }
+}
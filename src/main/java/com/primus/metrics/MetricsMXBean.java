@@ -0,0 +1,31 @@
+package com.primus.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of a {@link MetricsRegistry}, exposed over JMX as {@value Metrics#OBJECT_NAME}.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Tells whether metrics are recorded.
+     *
+     * @return {@code true} if the registry records, {@code false} if every metric is a no-op
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the current value of every counter.
+     *
+     * @return the counts by counter name
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Returns the summary of every histogram, with keys made of the histogram name followed by
+     * {@code .count}, {@code .mean}, {@code .p50}, {@code .p99} or {@code .max}.
+     *
+     * @return the statistics by key
+     */
+    Map<String, Double> getHistograms();
+}
@@ -0,0 +1,24 @@
+package com.primus.metrics;
+
+/**
+ * Creates and holds the named metrics of the application. Metrics are meant to be looked up once and kept
+ * in a field, so that the hot paths only update them.
+ */
+public interface MetricsRegistry extends MetricsMXBean {
+
+    /**
+     * Returns the counter with the given name, creating it on first use.
+     *
+     * @param name the name of the counter
+     * @return the counter, a no-op one if the registry is disabled
+     */
+    Counter counter(String name);
+
+    /**
+     * Returns the histogram with the given name, creating it on first use.
+     *
+     * @param name the name of the histogram
+     * @return the histogram, a no-op one if the registry is disabled
+     */
+    Histogram histogram(String name);
+}
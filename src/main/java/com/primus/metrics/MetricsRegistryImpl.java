@@ -0,0 +1,219 @@
+package com.primus.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link MetricsRegistry} backed by {@link LongAdder}s, which threads update without
+ * contending on a shared field. A disabled registry hands out shared no-op metrics, so instrumented code
+ * costs a virtual call that does nothing, and does not even read the clock.
+ */
+public final class MetricsRegistryImpl implements MetricsRegistry {
+
+    private static final double MEDIAN = 50;
+    private static final double TAIL = 99;
+
+    private final boolean enabled;
+    private final ConcurrentMap<String, LongAdderCounter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, BucketHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param enabled {@code false} to create a registry whose metrics record nothing
+     */
+    public MetricsRegistryImpl(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Counter counter(final String name) {
+        Objects.requireNonNull(name, "Metric name cannot be null");
+        return enabled ? counters.computeIfAbsent(name, n -> new LongAdderCounter()) : NoOpMetric.INSTANCE;
+    }
+
+    @Override
+    public Histogram histogram(final String name) {
+        Objects.requireNonNull(name, "Metric name cannot be null");
+        return enabled ? histograms.computeIfAbsent(name, n -> new BucketHistogram()) : NoOpMetric.INSTANCE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        final Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.getCount()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getHistograms() {
+        final Map<String, Double> values = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            values.put(name + ".count", (double) histogram.getCount());
+            values.put(name + ".mean", histogram.getMean());
+            values.put(name + ".p50", (double) histogram.getPercentile(MEDIAN));
+            values.put(name + ".p99", (double) histogram.getPercentile(TAIL));
+            values.put(name + ".max", (double) histogram.getMax());
+        });
+        return values;
+    }
+
+    /**
+     * A counter made of a single {@link LongAdder}.
+     */
+    private static final class LongAdderCounter implements Counter {
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment() {
+            count.increment();
+        }
+
+        @Override
+        public void add(final long amount) {
+            count.add(amount);
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    /**
+     * A histogram with one bucket for every power of two: bucket {@code i > 0} holds the values in
+     * {@code [2^(i-1), 2^i)} and bucket 0 holds zeros.
+     */
+    private static final class BucketHistogram implements Histogram {
+        private static final double PERCENT = 100;
+
+        private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private BucketHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void record(final long value) {
+            final long clamped = Math.max(0, value);
+            buckets[Long.SIZE - Long.numberOfLeadingZeros(clamped)].increment();
+            count.increment();
+            sum.add(clamped);
+            max.accumulate(clamped);
+        }
+
+        @Override
+        public long start() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void recordSince(final long start) {
+            record(System.nanoTime() - start);
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+
+        @Override
+        public double getMean() {
+            final long n = count.sum();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        @Override
+        public long getMax() {
+            return max.get();
+        }
+
+        @Override
+        public long getPercentile(final double percentile) {
+            if (percentile < 0 || percentile > PERCENT) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+            }
+            final long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * n));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank) {
+                    // The largest value of the bucket, never beyond what was actually recorded
+                    return Math.min(i == 0 ? 0 : (1L << i) - 1, getMax());
+                }
+            }
+            return getMax();
+        }
+    }
+
+    /**
+     * The metric of a disabled registry, which records nothing.
+     */
+    private enum NoOpMetric implements Counter, Histogram {
+        INSTANCE;
+
+        @Override
+        public void increment() {
+            // Nothing is recorded
+        }
+
+        @Override
+        public void add(final long amount) {
+            // Nothing is recorded
+        }
+
+        @Override
+        public void record(final long value) {
+            // Nothing is recorded
+        }
+
+        @Override
+        public long start() {
+            return 0;
+        }
+
+        @Override
+        public void recordSince(final long start) {
+            // Nothing is recorded
+        }
+
+        @Override
+        public long getCount() {
+            return 0;
+        }
+
+        @Override
+        public double getMean() {
+            return 0;
+        }
+
+        @Override
+        public long getMax() {
+            return 0;
+        }
+
+        @Override
+        public long getPercentile(final double percentile) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.primus.metrics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event marking a change of the malus: a card adding to it or a player drawing it.
+ */
+@Name("com.primus.Sanction")
+@Label("Sanction")
+@Category({"Primus", "Game"})
+@Description("A malus accumulated or resolved")
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class SanctionEvent extends Event {
+
+    /**
+     * A malus card raised the malus.
+     */
+    public static final String ACCUMULATE = "accumulate";
+
+    /**
+     * A player accepted the malus and drew its cards.
+     */
+    public static final String RESOLVE = "resolve";
+
+    @Label("Player")
+    private int playerId;
+
+    @Label("Action")
+    private String action;
+
+    @Label("Amount")
+    @Description("The malus after an accumulation, the cards drawn on a resolution")
+    private int amount;
+
+    /**
+     * Ends the event and commits it, if the recording asks for it.
+     *
+     * @param player the player who raised or accepted the malus
+     * @param kind   {@link #ACCUMULATE} or {@link #RESOLVE}
+     * @param cards  the amount of the malus
+     */
+    public void complete(final int player, final String kind, final int cards) {
+        end();
+        if (shouldCommit()) {
+            this.playerId = player;
+            this.action = kind;
+            this.amount = cards;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.primus.metrics;
+
+import com.primus.model.deck.Card;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the execution of a move by {@code GameManager.executeTurn}.
+ */
+@Name("com.primus.Turn")
+@Label("Turn")
+@Category({"Primus", "Game"})
+@Description("A move resolved by the game manager")
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class TurnEvent extends Event {
+
+    @Label("Player")
+    private int playerId;
+
+    @Label("Card")
+    @Description("The card played, absent if the player drew")
+    private String card;
+
+    @Label("Defense")
+    @Description("Whether the move answered an active malus")
+    private boolean defense;
+
+    @Label("Accepted")
+    private boolean accepted;
+
+    /**
+     * Ends the event and commits it with the outcome of the move, if the recording asks for it.
+     *
+     * @param player       the player who moved
+     * @param played       the card played, or null if the player drew
+     * @param againstMalus whether a malus was active
+     * @param valid        whether the move was accepted
+     */
+    public void complete(final int player, final Card played, final boolean againstMalus, final boolean valid) {
+        end();
+        if (shouldCommit()) {
+            this.playerId = player;
+            this.card = played == null ? null : played.toString();
+            this.defense = againstMalus;
+            this.accepted = valid;
+            commit();
+        }
+    }
+}
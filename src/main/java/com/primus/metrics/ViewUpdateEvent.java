@@ -0,0 +1,52 @@
+package com.primus.metrics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the delivery of a game state to the views: its {@link #PUBLISH} by the
+ * controller thread, then its {@link #RENDER} on the Swing thread.
+ */
+@Name("com.primus.ViewUpdate")
+@Label("View Update")
+@Category({"Primus", "View"})
+@Description("A game state published to the views or rendered by one of them")
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+@SuppressWarnings("PMD.UnusedPrivateField")
+public final class ViewUpdateEvent extends Event {
+
+    /**
+     * The controller hands the state to every view.
+     */
+    public static final String PUBLISH = "publish";
+
+    /**
+     * A view draws the state.
+     */
+    public static final String RENDER = "render";
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("State Version")
+    private long version;
+
+    /**
+     * Ends the event and commits it, if the recording asks for it.
+     *
+     * @param kind         {@link #PUBLISH} or {@link #RENDER}
+     * @param stateVersion the version of the delivered state
+     */
+    public void complete(final String kind, final long stateVersion) {
+        end();
+        if (shouldCommit()) {
+            this.phase = kind;
+            this.version = stateVersion;
+            commit();
+        }
+    }
+}
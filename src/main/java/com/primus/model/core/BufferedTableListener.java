@@ -0,0 +1,155 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+import com.primus.utils.TableEvent;
+import com.primus.utils.TableEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TableListener} that turns the callbacks into {@link TableEvent}s and stores them in a bounded buffer,
+ * to be consumed by another thread.
+ *
+ * <p>
+ * The game is never slowed down by the consumer: when the buffer is full new events are dropped and counted,
+ * see {@link #getDroppedCount()}.
+ * </p>
+ */
+@ThreadSafe
+public final class BufferedTableListener implements TableListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedTableListener.class);
+
+    private final BlockingQueue<TableEvent> buffer;
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Creates a listener buffering up to the given number of events.
+     *
+     * @param capacity the maximum number of events waiting to be consumed, must be positive
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BufferedTableListener(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void onGameStarted(final GameEvent event, final Card startCard) {
+        offer(new TableEvent(TableEventType.GAME_STARTED, TableEvent.NO_PLAYER, startCard, 0, event));
+    }
+
+    @Override
+    public void onPlayerSeated(final int playerId, final int cardCount, final boolean isBot) {
+        offer(new TableEvent(TableEventType.PLAYER_SEATED, playerId, null, cardCount, null));
+    }
+
+    @Override
+    public void onTurnStarted(final int playerId) {
+        offer(new TableEvent(TableEventType.TURN_STARTED, playerId, null, 0, null));
+    }
+
+    @Override
+    public void onCardPlayed(final int playerId, final Card card) {
+        offer(new TableEvent(TableEventType.CARD_PLAYED, playerId, card, 0, null));
+    }
+
+    @Override
+    public void onCardsDrawn(final int playerId, final int count) {
+        offer(new TableEvent(TableEventType.CARDS_DRAWN, playerId, null, count, null));
+    }
+
+    @Override
+    public void onDirectionReversed(final int playerId) {
+        offer(new TableEvent(TableEventType.DIRECTION_REVERSED, playerId, null, 0, null));
+    }
+
+    @Override
+    public void onTurnSkipped(final int playerId) {
+        offer(new TableEvent(TableEventType.TURN_SKIPPED, playerId, null, 0, null));
+    }
+
+    @Override
+    public void onMalusAccumulated(final int playerId, final int totalAmount) {
+        offer(new TableEvent(TableEventType.MALUS_ACCUMULATED, playerId, null, totalAmount, null));
+    }
+
+    @Override
+    public void onMalusResolved(final int playerId, final int amount) {
+        offer(new TableEvent(TableEventType.MALUS_RESOLVED, playerId, null, amount, null));
+    }
+
+    @Override
+    public void onDeckRefilled(final int cardCount) {
+        offer(new TableEvent(TableEventType.DECK_REFILLED, TableEvent.NO_PLAYER, null, cardCount, null));
+    }
+
+    @Override
+    public void onGameWon(final int playerId) {
+        offer(new TableEvent(TableEventType.GAME_WON, playerId, null, 0, null));
+    }
+
+    /**
+     * Removes the oldest buffered event, if any.
+     *
+     * @return the oldest event, or empty if the buffer is empty
+     */
+    public Optional<TableEvent> poll() {
+        return Optional.ofNullable(buffer.poll());
+    }
+
+    /**
+     * Removes the oldest buffered event, waiting for one if the buffer is empty.
+     *
+     * @return the oldest event
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public TableEvent take() throws InterruptedException {
+        return buffer.take();
+    }
+
+    /**
+     * Moves every buffered event, oldest first, to the given collection.
+     *
+     * @param target the collection receiving the events
+     * @return the number of events moved
+     */
+    public int drainTo(final Collection<? super TableEvent> target) {
+        return buffer.drainTo(target);
+    }
+
+    /**
+     * Returns the number of events waiting to be consumed.
+     *
+     * @return the number of buffered events
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns how many events have been dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void offer(final TableEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.increment();
+            LOGGER.debug("Table event buffer full, dropping {}", event.type());
+        }
+    }
+}
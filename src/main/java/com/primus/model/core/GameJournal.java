@@ -0,0 +1,205 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+import com.primus.utils.TableEvent;
+import com.primus.utils.TableEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link TableListener} keeping the most recent events of a table in a fixed-size ring, so that what led to an
+ * error can be logged after the fact instead of logging every move as it happens.
+ *
+ * <p>
+ * Records are stored in preallocated parallel arrays and the oldest ones are overwritten, so recording an event
+ * never allocates. The journal also counts what happened in the current game, and logs a one-line summary at
+ * INFO level when the game is won. The records are only turned into {@link TableEvent}s when they are read or
+ * dumped to the log, see {@link #dump(String)}.
+ * </p>
+ */
+@NotThreadSafe
+public final class GameJournal implements TableListener {
+
+    /**
+     * The number of records kept by the journal of a {@link GameManagerImpl}, enough for the last few rounds of
+     * a crowded table.
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameJournal.class);
+    private static final TableEventType[] TYPES = TableEventType.values();
+    private static final GameEvent[] GAME_EVENTS = GameEvent.values();
+
+    private final byte[] types;
+    private final int[] players;
+    private final Card[] cards;
+    // The amount of the event, or the ordinal of the GameEvent for GAME_STARTED records
+    private final int[] amounts;
+    private long recorded;
+
+    // Counters of the current game, reported by the summary
+    private GameEvent gameEvent;
+    private int turns;
+    private int cardsPlayed;
+    private int cardsDrawn;
+    private int maluses;
+    private int refills;
+
+    /**
+     * Creates an empty journal.
+     *
+     * @param capacity the number of most recent records to keep, must be positive
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public GameJournal(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.types = new byte[capacity];
+        this.players = new int[capacity];
+        this.cards = new Card[capacity];
+        this.amounts = new int[capacity];
+    }
+
+    @Override
+    public void onGameStarted(final GameEvent event, final Card startCard) {
+        gameEvent = event;
+        turns = 0;
+        cardsPlayed = 0;
+        cardsDrawn = 0;
+        maluses = 0;
+        refills = 0;
+        record(TableEventType.GAME_STARTED, TableEvent.NO_PLAYER, startCard, event.ordinal());
+    }
+
+    @Override
+    public void onPlayerSeated(final int playerId, final int cardCount, final boolean isBot) {
+        record(TableEventType.PLAYER_SEATED, playerId, null, cardCount);
+    }
+
+    @Override
+    public void onTurnStarted(final int playerId) {
+        turns++;
+        record(TableEventType.TURN_STARTED, playerId, null, 0);
+    }
+
+    @Override
+    public void onCardPlayed(final int playerId, final Card card) {
+        cardsPlayed++;
+        record(TableEventType.CARD_PLAYED, playerId, card, 0);
+    }
+
+    @Override
+    public void onCardsDrawn(final int playerId, final int count) {
+        cardsDrawn += count;
+        record(TableEventType.CARDS_DRAWN, playerId, null, count);
+    }
+
+    @Override
+    public void onDirectionReversed(final int playerId) {
+        record(TableEventType.DIRECTION_REVERSED, playerId, null, 0);
+    }
+
+    @Override
+    public void onTurnSkipped(final int playerId) {
+        record(TableEventType.TURN_SKIPPED, playerId, null, 0);
+    }
+
+    @Override
+    public void onMalusAccumulated(final int playerId, final int totalAmount) {
+        record(TableEventType.MALUS_ACCUMULATED, playerId, null, totalAmount);
+    }
+
+    @Override
+    public void onMalusResolved(final int playerId, final int amount) {
+        maluses++;
+        record(TableEventType.MALUS_RESOLVED, playerId, null, amount);
+    }
+
+    @Override
+    public void onDeckRefilled(final int cardCount) {
+        refills++;
+        record(TableEventType.DECK_REFILLED, TableEvent.NO_PLAYER, null, cardCount);
+    }
+
+    @Override
+    public void onGameWon(final int playerId) {
+        record(TableEventType.GAME_WON, playerId, null, 0);
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Game won by player {} ({}): {} turns, {} cards played, {} drawn, {} maluses, {} refills",
+                    playerId, gameEvent, turns, cardsPlayed, cardsDrawn, maluses, refills);
+        }
+    }
+
+    /**
+     * Returns the maximum number of records kept.
+     *
+     * @return the capacity of the journal
+     */
+    public int getCapacity() {
+        return types.length;
+    }
+
+    /**
+     * Returns how many events have been recorded since the journal was created, overwritten ones included.
+     *
+     * @return the number of recorded events
+     */
+    public long getRecordedCount() {
+        return recorded;
+    }
+
+    /**
+     * Returns the records still held by the journal.
+     *
+     * @return the most recent events, oldest first
+     */
+    public List<TableEvent> getRecords() {
+        final int held = (int) Math.min(recorded, types.length);
+        final List<TableEvent> records = new ArrayList<>(held);
+        for (long sequence = recorded - held; sequence < recorded; sequence++) {
+            records.add(toEvent(slotOf(sequence)));
+        }
+        return records;
+    }
+
+    /**
+     * Writes the records still held by the journal to the log at WARN level, oldest first.
+     *
+     * @param reason why the journal is dumped, written in the first line
+     */
+    public void dump(final String reason) {
+        final List<TableEvent> records = getRecords();
+        LOGGER.warn("Game journal dump ({}): last {} of {} events", reason, records.size(), recorded);
+        long sequence = recorded - records.size();
+        for (final TableEvent record : records) {
+            LOGGER.warn("  #{} {}", sequence++, record);
+        }
+    }
+
+    private void record(final TableEventType type, final int playerId, final Card card, final int amount) {
+        final int slot = slotOf(recorded);
+        types[slot] = (byte) type.ordinal();
+        players[slot] = playerId;
+        cards[slot] = card;
+        amounts[slot] = amount;
+        recorded++;
+    }
+
+    private int slotOf(final long sequence) {
+        return (int) (sequence % types.length);
+    }
+
+    private TableEvent toEvent(final int slot) {
+        final TableEventType type = TYPES[types[slot]];
+        if (type == TableEventType.GAME_STARTED) {
+            return new TableEvent(type, players[slot], cards[slot], 0, GAME_EVENTS[amounts[slot]]);
+        }
+        return new TableEvent(type, players[slot], cards[slot], amounts[slot], null);
+    }
+}
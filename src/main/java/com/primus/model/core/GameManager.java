@@ -3,10 +3,13 @@ package com.primus.model.core;
 import com.primus.model.deck.Card;
 import com.primus.utils.GameState;
 import com.primus.model.player.Player;
+import com.primus.model.search.SearchState;
 import com.primus.utils.PlayerSetupData;
+import com.primus.utils.StateChange;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Interface to manage the game flow.
@@ -24,6 +27,22 @@ public interface GameManager {
      */
     GameState getGameState();
 
+    /**
+     * Returns the version of the game state. The version increases whenever something shown by the
+     * {@link GameState} changes, so two states with the same version are identical.
+     *
+     * @return the current version of the game state
+     */
+    long getStateVersion();
+
+    /**
+     * Returns the parts of the game state that changed after the given version.
+     *
+     * @param version a version previously read from {@link #getStateVersion()} or {@link GameState#version()}
+     * @return the set of changes since that version, empty if the state is unchanged
+     */
+    Set<StateChange> getChangesSince(long version);
+
     /**
      * Returns the setup data for all players in the game.
      *
@@ -32,6 +51,21 @@ public interface GameManager {
      */
     List<PlayerSetupData> getGameSetup();
 
+    /**
+     * Registers a listener notified of every event happening on the table, in this and the following games.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException if the listener is null
+     */
+    void addListener(TableListener listener);
+
+    /**
+     * Unregisters a listener previously added with {@link #addListener(TableListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(TableListener listener);
+
     /**
      * Advances the turn order and returns the next player.
      *
@@ -39,6 +73,14 @@ public interface GameManager {
      */
     Player nextPlayer();
 
+    /**
+     * Returns the cards the current player can legally play, evaluated in one pass against the top card
+     * of the discard pile and the active sanction, if any.
+     *
+     * @return the legal moves of the current player, in hand order; empty if the player can only draw
+     */
+    List<Card> getLegalMoves();
+
     /**
      * Returns the winner of the game if the game is finished.
      *
@@ -46,6 +88,18 @@ public interface GameManager {
      */
     Optional<Integer> getWinner();
 
+    /**
+     * Copies the current position into a search state, hidden cards included: the hands, the order of the deck,
+     * the discard pile, the player to move, the direction of play and the pending malus. Seat {@code i} of the
+     * state is the {@code i}-th player of {@link #getGameSetup()}. Meant for simulations run on behalf of the
+     * table, such as parallel rollouts, which then fork the state with {@link SearchState#copyFrom(SearchState)}.
+     *
+     * @param target the state to overwrite, created for the rules of the current event and one seat per player
+     * @throws IllegalArgumentException if the state was created for other rules or another number of seats
+     * @throws IllegalStateException    if the game is over
+     */
+    void copyPosition(SearchState target);
+
     /**
      * Executes the turn for the current player with the chosen card.
      *
@@ -53,4 +107,12 @@ public interface GameManager {
      * @return {@code True} if the turn was executed successfully
      */
     boolean executeTurn(Card chosenCard);
+
+    /**
+     * Writes the most recent events of the table to the log, to understand how the game reached its state.
+     * Moves are not logged one by one at INFO level, so this is the way to inspect them after an error.
+     *
+     * @param reason why the events are requested, written with them
+     */
+    void dumpJournal(String reason);
 }
@@ -1,5 +1,10 @@
 package com.primus.model.core;
 
+import com.primus.metrics.Counter;
+import com.primus.metrics.Histogram;
+import com.primus.metrics.Metrics;
+import com.primus.metrics.SanctionEvent;
+import com.primus.metrics.TurnEvent;
 import com.primus.model.deck.Card;
 import com.primus.model.deck.CardEffect;
 import com.primus.model.deck.Deck;
@@ -10,24 +15,33 @@ import com.primus.model.deck.PrimusDropPile;
 import com.primus.model.player.Player;
 import com.primus.model.player.bot.BotFactory;
 import com.primus.model.player.HumanPlayer;
+import com.primus.model.rules.PrecomputedValidator;
 import com.primus.model.rules.Sanctioner;
 import com.primus.model.rules.SanctionerImpl;
 import com.primus.model.rules.Scheduler;
 import com.primus.model.rules.SchedulerImpl;
 import com.primus.model.rules.Validator;
 import com.primus.model.rules.ValidatorImpl;
+import com.primus.model.search.SearchState;
 import com.primus.model.player.bot.BotFactoryImpl;
 import com.primus.utils.GameState;
 import com.primus.utils.PlayerSetupData;
+import com.primus.utils.StateChange;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Function;
 
 /**
  * Implementation of {@link GameManager} to manage the game flow. It offers an API
@@ -37,58 +51,139 @@ import java.util.Objects;
 public final class GameManagerImpl implements GameManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameManagerImpl.class);
     private static final int CARD_NUMBER = 7;
+    private static final Histogram TURN_LATENCY = Metrics.getRegistry().histogram(Metrics.TURN_LATENCY);
+    private static final Counter REJECTED_MOVES = Metrics.getRegistry().counter(Metrics.REJECTED_MOVES);
+    private static final Histogram MALUS_CHAIN = Metrics.getRegistry().histogram(Metrics.MALUS_CHAIN);
+    private static final Counter REFILLS = Metrics.getRegistry().counter(Metrics.REFILLS);
 
     private final Map<Integer, Player> players;
     private final Sanctioner sanctioner;
-    private final Validator validator;
+    private Validator validator;
+    private final Function<BotFactory, List<Player>> lineup;
+    private final GameEvent fixedEvent;
+    private final SplittableRandom random;
     private Deck deck;
     private DropPile discardPile;
     private Scheduler scheduler;
     private boolean isInitialized;
     private GameEvent currentEvent;
+    private int refillCount;
+    // Malus cards stacked since the last time a malus was accepted
+    private int malusChain;
+    private Optional<Integer> winner = Optional.empty();
+    private Player humanPlayer;
+    private final TableListeners listeners = new TableListeners();
+    // Keeps the recent events of the table, logged only when something goes wrong
+    private final GameJournal journal = new GameJournal(GameJournal.DEFAULT_CAPACITY);
+    // Players observing the table, registered for the current game only
+    private final List<TableListener> seatedListeners = new ArrayList<>();
+    // State publication: the version of every kind of change and the last published snapshot
+    private final long[] lastChanged = new long[StateChange.values().length];
+    private long stateVersion;
+    private boolean versionObserved = true;
+    private GameState snapshot;
 
     /**
      * Constructor initialises the game manager with necessary components.
+     * The table is made of the human player and the three standard bots, and every
+     * game is played with a randomly selected {@link GameEvent}.
      */
     public GameManagerImpl() {
+        this(GameManagerImpl::createDefaultLineup);
+    }
+
+    /**
+     * Creates a game manager with a custom lineup, every game is played with a randomly selected {@link GameEvent}.
+     *
+     * @param lineup the function creating the players of a new game, invoked on every {@link #init()}
+     */
+    public GameManagerImpl(final Function<BotFactory, List<Player>> lineup) {
+        this(lineup, null);
+    }
+
+    /**
+     * Creates a game manager with a custom lineup and a fixed game event.
+     *
+     * @param lineup the function creating the players of a new game, invoked on every {@link #init()}
+     * @param event  the event every game is played with, or {@code null} to select a random one on each game
+     */
+    public GameManagerImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event) {
+        this(lineup, event, new SplittableRandom());
+    }
+
+    /**
+     * Creates a game manager with a custom lineup, a fixed game event and a seed. Every source of randomness
+     * of a game (event selection, deck shuffles and bot strategies) is split from a single generator
+     * created from the seed, so two managers with the same seed play the same sequence of games.
+     *
+     * @param lineup the function creating the players of a new game, invoked on every {@link #init()}
+     * @param event  the event every game is played with, or {@code null} to select a random one on each game
+     * @param seed   the seed of the games played by this manager
+     */
+    public GameManagerImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event,
+                           final long seed) {
+        this(lineup, event, new SplittableRandom(seed));
+    }
+
+    private GameManagerImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event,
+                            final SplittableRandom random) {
+        this.lineup = Objects.requireNonNull(lineup, "Lineup cannot be null");
+        this.fixedEvent = event;
+        this.random = random;
         deck = new PrimusDeck();
         sanctioner = new SanctionerImpl();
         validator = new ValidatorImpl();
         players = new HashMap<>();
+        listeners.add(journal);
     }
 
     @Override
     public void init() {
-        LOGGER.info("Initializing Game Manager");
+        LOGGER.debug("Initializing Game Manager");
 
         isInitialized = true;
+        refillCount = 0;
+        malusChain = 0;
+        winner = Optional.empty();
 
-        currentEvent = GameEvent.getRandomEvent();
-        LOGGER.info("Selected Game Event: {} - {}", currentEvent, currentEvent.getDescription());
+        // Each game owns a generator, every component receives its own split of it
+        final SplittableRandom gameRandom = random.split();
+        currentEvent = fixedEvent != null ? fixedEvent : GameEvent.getRandomEvent(gameRandom);
+        LOGGER.debug("Selected Game Event: {} - {}", currentEvent, currentEvent.getDescription());
 
-        discardPile = new PrimusDropPile();
-        final PrimusDeck primusDeck = new PrimusDeck();
+        final PrimusDeck primusDeck = new PrimusDeck(gameRandom.split());
         primusDeck.setGameEvent(this.currentEvent);
         primusDeck.init();
         this.deck = primusDeck;
+        // Moves are checked against the compatibility tables of the event's cards
+        validator = PrecomputedValidator.forEvent(currentEvent);
+        // Sized for the whole deck, so the pile never grows and can be handed back on refill
+        discardPile = new PrimusDropPile(primusDeck.size());
         players.clear();
+        seatedListeners.forEach(listeners::remove);
+        seatedListeners.clear();
         sanctioner.reset();
-        final BotFactory botFactory = new BotFactoryImpl();
+        final BotFactory botFactory = new BotFactoryImpl(gameRandom.split());
 
         // Create players and add them to the map using their own ID as key
-        final Player humanPlayer = new HumanPlayer(1, "You");
-        players.put(humanPlayer.getId(), humanPlayer);
-
-        final Player bot1 = botFactory.createFortuitus(2);
-        players.put(bot1.getId(), bot1);
-
-        final Player bot2 = botFactory.createImplacabilis(3);
-        players.put(bot2.getId(), bot2);
+        for (final Player p : lineup.apply(botFactory)) {
+            if (players.putIfAbsent(p.getId(), p) != null) {
+                LOGGER.error("Duplicate player ID {} in lineup", p.getId());
+                journal.dump("duplicate player ID " + p.getId());
+                throw new IllegalArgumentException("Duplicate player ID in lineup: " + p.getId());
+            }
+        }
 
-        final Player bot3 = botFactory.createFallax(4, humanPlayer);
-        players.put(bot3.getId(), bot3);
+        // Players that keep track of the table receive its events like any other listener
+        for (final Player p : players.values()) {
+            if (p instanceof TableListener observer) {
+                listeners.add(observer);
+                seatedListeners.add(observer);
+            }
+        }
 
-        LOGGER.info("Players created: {}", players.keySet());
+        LOGGER.debug("Players created: {}", players.keySet());
+        humanPlayer = players.values().stream().filter(p -> !p.isBot()).findFirst().orElse(null);
 
         // Create the scheduler by passing the players IDs to it
         scheduler = new SchedulerImpl(players.keySet());
@@ -96,43 +191,81 @@ public final class GameManagerImpl implements GameManager {
         // Distribute cards
         LOGGER.debug("Distributing {} cards to each player", CARD_NUMBER);
         for (final Player p : players.values()) {
-            for (int i = 0; i < CARD_NUMBER; i++) {
-                final Card c = drawDeckCard();
-                if (c != null) {
-                    p.addCards(List.of(c));
-                }
-            }
+            p.addCards(drawDeckCards(CARD_NUMBER));
         }
 
         // Draw the start card
         final Card startCard = deck.drawStartCard();
         discardPile.addCard(startCard);
-        LOGGER.info("Game initialized. Start card: {}", startCard);
+        for (final StateChange change : StateChange.values()) {
+            markChanged(change);
+        }
+        LOGGER.debug("Game initialized with event {} and players {}. Start card: {}",
+                currentEvent, players.keySet(), startCard);
+        listeners.onGameStarted(currentEvent, startCard);
+        for (final int playerId : scheduler.getPlayersDisposition()) {
+            final Player player = players.get(playerId);
+            listeners.onPlayerSeated(playerId, player.getHand().size(), player.isBot());
+        }
     }
 
     @Override
     public GameState getGameState() {
         ensureInitialized();
-        final Map<Integer, Integer> cardCounts = new HashMap<>();
+        versionObserved = true;
+        if (snapshot != null && snapshot.version() == stateVersion) {
+            return snapshot;
+        }
 
-        players.values().forEach(player -> cardCounts.put(player.getId(), player.getHand().size()));
+        // Only the parts changed since the previous snapshot are copied again
+        final Map<Integer, Integer> cardCounts;
+        if (snapshot == null || changedSince(StateChange.CARD_COUNTS, snapshot.version())) {
+            final Map<Integer, Integer> counts = new HashMap<>();
+            players.values().forEach(player -> counts.put(player.getId(), player.getHand().size()));
+            cardCounts = Map.copyOf(counts);
+        } else {
+            cardCounts = snapshot.playersCardCounts();
+        }
 
-        final List<Card> humanCards = players.values().stream()
-                .filter(p -> !p.isBot())
-                .findFirst()
-                .map(Player::getHand)
-                .orElse(List.of());
+        final List<Card> humanCards;
+        if (snapshot == null || changedSince(StateChange.HUMAN_HAND, snapshot.version())) {
+            humanCards = humanPlayer == null ? List.of() : List.copyOf(humanPlayer.getHand());
+        } else {
+            humanCards = snapshot.humanHand();
+        }
 
         final String eventName = (this.currentEvent != null) ? this.currentEvent.getDescription() : "Standard Game";
 
-        return new GameState(
+        snapshot = new GameState(
                 discardPile.peek(),
                 humanCards,
                 cardCounts,
                 scheduler.getCurrentPlayer(),
                 sanctioner.isActive(),
-                eventName
+                eventName,
+                stateVersion
         );
+        return snapshot;
+    }
+
+    @Override
+    public long getStateVersion() {
+        ensureInitialized();
+        versionObserved = true;
+        return stateVersion;
+    }
+
+    @Override
+    public Set<StateChange> getChangesSince(final long version) {
+        ensureInitialized();
+        versionObserved = true;
+        final Set<StateChange> changes = EnumSet.noneOf(StateChange.class);
+        for (final StateChange change : StateChange.values()) {
+            if (changedSince(change, version)) {
+                changes.add(change);
+            }
+        }
+        return changes;
     }
 
     @Override
@@ -146,17 +279,63 @@ public final class GameManagerImpl implements GameManager {
                 .toList();
     }
 
+    @Override
+    public void addListener(final TableListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(final TableListener listener) {
+        listeners.remove(listener);
+    }
+
     @Override
     public Player nextPlayer() {
         ensureInitialized();
         final int nextId = scheduler.nextPlayer();
+        markChanged(StateChange.CURRENT_PLAYER);
         LOGGER.debug("Scheduler advanced. Next player ID: {}", nextId);
+        listeners.onTurnStarted(nextId);
         return players.get(nextId);
     }
 
+    @Override
+    public List<Card> getLegalMoves() {
+        ensureInitialized();
+        final List<Card> hand = getActivePlayer().getHand();
+        final BitSet legal = validator.legalMoves(discardPile.peek(), hand, sanctioner.isActive());
+        final List<Card> moves = new ArrayList<>(legal.cardinality());
+        for (int i = legal.nextSetBit(0); i >= 0; i = legal.nextSetBit(i + 1)) {
+            moves.add(hand.get(i));
+        }
+        return moves;
+    }
+
     @Override
     public boolean executeTurn(final Card card) {
         ensureInitialized();
+        final TurnEvent event = new TurnEvent();
+        event.begin();
+        final long start = TURN_LATENCY.start();
+        final int playerId = scheduler.getCurrentPlayer();
+        final boolean defense = sanctioner.isActive();
+        boolean accepted = false;
+        try {
+            accepted = resolveTurn(card);
+            return accepted;
+        } finally {
+            TURN_LATENCY.recordSince(start);
+            event.complete(playerId, card, defense, accepted);
+        }
+    }
+
+    /**
+     * Resolves the move of the active player.
+     *
+     * @param card the card played, or null if the player draws
+     * @return {@code true} if the move was accepted
+     */
+    private boolean resolveTurn(final Card card) {
         final Player activePlayer = getActivePlayer();
         LOGGER.debug("Executing turn for Player {}. Card played: {}", activePlayer.getId(), card);
 
@@ -168,37 +347,100 @@ public final class GameManagerImpl implements GameManager {
 
         // User chooses to draw a card
         if (card == null) {
-            LOGGER.info("Player {} chose to draw a card.", activePlayer.getId());
-            drawCardForPlayer(activePlayer);
+            LOGGER.debug("Player {} chose to draw a card.", activePlayer.getId());
+            drawCardsForPlayer(activePlayer, 1);
             return true;
         }
 
         // User plays a card, so it must be validated
         if (!validator.isValidCard(discardPile.peek(), card)) {
             LOGGER.warn("Invalid move attempted by player {}: {} on {}", activePlayer.getId(), card, discardPile.peek());
+            REJECTED_MOVES.increment();
             activePlayer.notifyMoveResult(card, false);
             return false;
         }
 
         // Confirm the move and apply effects
-        LOGGER.info("Player {} played valid card: {}", activePlayer.getId(), card);
-        activePlayer.notifyMoveResult(card, true);
-        discardPile.addCard(card);
-
-        applyCardEffects(card);
+        LOGGER.debug("Player {} played valid card: {}", activePlayer.getId(), card);
+        playValidatedCard(activePlayer, card);
 
         return true;
     }
 
+    @Override
+    public void dumpJournal(final String reason) {
+        journal.dump(reason);
+    }
+
     @Override
     public Optional<Integer> getWinner() {
         ensureInitialized();
-        final Optional<Integer> winner = players.values().stream().filter(
-                p -> p.getHand().isEmpty()).map(Player::getId).findFirst();
-        winner.ifPresent(integer -> LOGGER.info("Winner found. Player ID: {}", integer));
         return winner;
     }
 
+    @Override
+    public void copyPosition(final SearchState target) {
+        ensureInitialized();
+        Objects.requireNonNull(target, "Search state cannot be null");
+        if (target.getRules() != validator || target.getPlayerCount() != players.size()) {
+            throw new IllegalArgumentException("Search state does not match the current game");
+        }
+        if (winner.isPresent()) {
+            throw new IllegalStateException("The game is over, player " + winner.get() + " won");
+        }
+
+        target.clear();
+        for (int i = 0; i < deck.size(); i++) {
+            target.addToDeck(deck.getCard(i).getId());
+        }
+        for (int i = 0; i < discardPile.size(); i++) {
+            target.addToDiscard(discardPile.getCard(i).getId());
+        }
+        final List<Integer> seats = scheduler.getPlayersDisposition();
+        for (int seat = 0; seat < seats.size(); seat++) {
+            for (final Card card : players.get(seats.get(seat)).getHand()) {
+                target.addToHand(seat, card.getId());
+            }
+        }
+        target.setTurn(seats.indexOf(scheduler.getCurrentPlayer()), scheduler.isClockwise());
+        target.setMalus(sanctioner.getMalusAmount());
+    }
+
+    /**
+     * Returns how many times the deck has been refilled from the discard pile in the current game.
+     *
+     * @return the number of refills since the last {@link #init()}
+     */
+    int getRefillCount() {
+        return refillCount;
+    }
+
+    /**
+     * Returns the event the current game is played with.
+     *
+     * @return the current game event
+     */
+    GameEvent getCurrentEvent() {
+        ensureInitialized();
+        return currentEvent;
+    }
+
+    /**
+     * Creates the standard table: the human player and one bot for each personality.
+     *
+     * @param botFactory the factory used to create the bots
+     * @return the list of players of a standard game
+     */
+    private static List<Player> createDefaultLineup(final BotFactory botFactory) {
+        final Player humanPlayer = new HumanPlayer(1, "You");
+        return List.of(
+                humanPlayer,
+                botFactory.createFortuitus(2),
+                botFactory.createImplacabilis(3),
+                botFactory.createFallax(4, humanPlayer)
+        );
+    }
+
     /**
      * @return the player whose turn it is, based on the scheduler's current player ID
      */
@@ -237,79 +479,166 @@ public final class GameManagerImpl implements GameManager {
         // Player chooses not to defend (probably he couldn't)
         if (card == null) {
             final int amount = sanctioner.getMalusAmount();
-            LOGGER.info("Player {} accepts malus. Drawing {} cards.", player.getId(), amount);
+            LOGGER.debug("Player {} accepts malus. Drawing {} cards.", player.getId(), amount);
 
             // Apply malus
-            for (int i = 0; i < amount; i++) {
-                drawCardForPlayer(player);
-            }
+            final SanctionEvent event = new SanctionEvent();
+            event.begin();
+            drawCardsForPlayer(player, amount);
             sanctioner.reset();
+            event.complete(player.getId(), SanctionEvent.RESOLVE, amount);
+            MALUS_CHAIN.record(malusChain);
+            malusChain = 0;
+            markChanged(StateChange.MALUS);
+            listeners.onMalusResolved(player.getId(), amount);
 
             return true;
         }
 
         // Player is defending against an active sanction
         if (sanctioner.isActive() && validator.isValidDefense(discardPile.peek(), card)) {
-            LOGGER.info("Player {} successfully defended with {}", player.getId(), card);
-            player.notifyMoveResult(card, true);
-            discardPile.addCard(card);
-            applyCardEffects(card);
+            LOGGER.debug("Player {} successfully defended with {}", player.getId(), card);
+            playValidatedCard(player, card);
             return true;
         }
 
         // Invalid defense attempt
         LOGGER.warn("Player {} failed to defend with invalid card: {}", player.getId(), card);
+        REJECTED_MOVES.increment();
         player.notifyMoveResult(card, false);
         return false;
     }
 
     /**
-     * Draws a card from the deck, refilling it from the discard pile if necessary.
+     * Moves a validated card from the player's hand to the discard pile and applies its effects.
      *
-     * @return the drawn card
+     * @param player the player who played the card
+     * @param card   the card accepted by the validator
      */
-    private Card drawDeckCard() {
-        if (deck.isEmpty()) {
-            LOGGER.info("Deck is empty. Refilling from discard pile.");
-            deck.refillFrom(discardPile);
+    private void playValidatedCard(final Player player, final Card card) {
+        player.notifyMoveResult(card, true);
+        markHandChanged(player);
+        discardPile.addCard(card);
+        markChanged(StateChange.TOP_CARD);
+        listeners.onCardPlayed(player.getId(), card);
+        applyCardEffects(player.getId(), card);
+        checkWinner(player);
+    }
+
+    /**
+     * Records that a part of the game state changed. Changes made before anyone reads the state
+     * again share the same new version.
+     *
+     * @param change the part of the state that changed
+     */
+    private void markChanged(final StateChange change) {
+        if (versionObserved) {
+            stateVersion++;
+            versionObserved = false;
         }
-        return deck.drawCard();
+        lastChanged[change.ordinal()] = stateVersion;
     }
 
     /**
-     * Draws a card from the deck and adds it to the player's hand.
+     * Records that the hand of the given player changed.
      *
-     * @param player the player drawing the card
+     * @param player the player whose hand changed
      */
-    private void drawCardForPlayer(final Player player) {
-        final Card c = drawDeckCard();
-        if (c != null) {
-            player.addCards(List.of(c));
-        } else {
-            LOGGER.error("Deck is empty even after refill attempt. Player {} cannot draw.", player.getId());
-            throw new IllegalStateException("Deck is empty and cannot be refilled. No cards available to draw.");
+    private void markHandChanged(final Player player) {
+        markChanged(StateChange.CARD_COUNTS);
+        if (player.equals(humanPlayer)) {
+            markChanged(StateChange.HUMAN_HAND);
+        }
+    }
+
+    private boolean changedSince(final StateChange change, final long version) {
+        return lastChanged[change.ordinal()] > version;
+    }
+
+    /**
+     * Records the player as the winner if the card just played emptied its hand.
+     * Hands only shrink when a move is validated, so this is the only point where a game can end.
+     *
+     * @param player the player who has just played a valid card
+     */
+    private void checkWinner(final Player player) {
+        if (winner.isEmpty() && player.getHand().isEmpty()) {
+            winner = Optional.of(player.getId());
+            LOGGER.debug("Winner found. Player ID: {}", player.getId());
+            listeners.onGameWon(player.getId());
         }
     }
 
+    /**
+     * Draws cards from the deck, refilling it from the discard pile at most once if it holds too few.
+     *
+     * @param count the number of cards to draw
+     * @return the drawn cards
+     * @throws IllegalStateException if the deck holds too few cards even after the refill
+     */
+    private List<Card> drawDeckCards(final int count) {
+        if (deck.size() < count) {
+            LOGGER.debug("Deck holds {} cards, {} needed. Refilling from discard pile.", deck.size(), count);
+            deck.refillFrom(discardPile);
+            refillCount++;
+            REFILLS.increment();
+            listeners.onDeckRefilled(deck.size());
+        }
+        if (deck.size() < count) {
+            LOGGER.error("Deck holds {} cards after the refill, {} needed", deck.size(), count);
+            journal.dump("deck exhausted");
+        }
+        return deck.drawCards(count);
+    }
+
+    /**
+     * Draws cards from the deck and adds them to the player's hand in one operation.
+     *
+     * @param player the player drawing the cards
+     * @param count  the number of cards to draw
+     * @throws IllegalStateException if there are not enough cards left, even in the discard pile
+     */
+    private void drawCardsForPlayer(final Player player, final int count) {
+        player.addCards(drawDeckCards(count));
+        markHandChanged(player);
+        listeners.onCardsDrawn(player.getId(), count);
+    }
+
     /**
      * Applies the effects of the played card to the game state.
      *
-     * @param card the card whose effects are to be applied
+     * @param playerId the player who played the card
+     * @param card     the card whose effects are to be applied
      */
-    private void applyCardEffects(final Card card) {
+    private void applyCardEffects(final int playerId, final Card card) {
         Objects.requireNonNull(card);
 
         if (card.hasEffect(CardEffect.SKIP_NEXT)) {
             LOGGER.debug("Applying SKIP_NEXT effect (triggered by {})", card.getValue());
             scheduler.skipTurn();
+            markChanged(StateChange.CURRENT_PLAYER);
+            listeners.onTurnSkipped(scheduler.getCurrentPlayer());
         }
 
         if (card.hasEffect(CardEffect.REVERSE_TURN)) {
             LOGGER.debug("Applying REVERSE_TURN effect.");
             scheduler.reverseDirection();
+            listeners.onDirectionReversed(playerId);
         }
 
         // Accumulate sanctions if the card has any effect that triggers them (e.g., Draw Two, Wild Draw Four)
+        final boolean wasMalusActive = sanctioner.isActive();
+        final int previousMalus = sanctioner.getMalusAmount();
+        final SanctionEvent event = new SanctionEvent();
+        event.begin();
         sanctioner.accumulate(card);
+        if (sanctioner.isActive() != wasMalusActive) {
+            markChanged(StateChange.MALUS);
+        }
+        if (sanctioner.getMalusAmount() != previousMalus) {
+            malusChain++;
+            event.complete(playerId, SanctionEvent.ACCUMULATE, sanctioner.getMalusAmount());
+            listeners.onMalusAccumulated(playerId, sanctioner.getMalusAmount());
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.primus.model.core;
+
+import com.primus.utils.SimulationResult;
+
+/**
+ * Interface to play complete bot-only games without views and without delays.
+ * It is meant for offline analysis of bot lineups, where thousands of games are played back to back.
+ */
+public interface GameSimulator {
+
+    /**
+     * Initializes a new game and plays it until a player wins or the turn limit is reached.
+     *
+     * @return the {@link SimulationResult} of the game
+     * @throws IllegalStateException if a player of the lineup is not a bot
+     */
+    SimulationResult play();
+}
@@ -0,0 +1,123 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Player;
+import com.primus.model.player.bot.BotFactory;
+import com.primus.utils.SimulationResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link GameSimulator} that drives a {@link GameManagerImpl} turn by turn.
+ * It follows the same turn protocol of {@link com.primus.controller.GameControllerImpl}, so the
+ * {@link com.primus.model.rules.Validator}, {@link com.primus.model.rules.Sanctioner} and
+ * {@link com.primus.model.rules.Scheduler} apply exactly the interactive rules, but it never builds
+ * a {@link com.primus.utils.GameState} and never waits between turns.
+ * The same instance can be reused to play any number of games, one after the other.
+ */
+public final class GameSimulatorImpl implements GameSimulator {
+    /**
+     * Default maximum number of turns after which a game is considered stuck.
+     */
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameSimulatorImpl.class);
+
+    private final GameManagerImpl manager;
+    private final int maxTurns;
+
+    /**
+     * Creates a simulator for the given bot lineup, playing every game with a randomly selected event.
+     *
+     * @param lineup the function creating the bots of a new game, they must all be bots
+     */
+    public GameSimulatorImpl(final Function<BotFactory, List<Player>> lineup) {
+        this(lineup, null, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a simulator for the given bot lineup and game event.
+     *
+     * @param lineup   the function creating the bots of a new game, they must all be bots
+     * @param event    the event every game is played with, or {@code null} to select a random one on each game
+     * @param maxTurns the maximum number of turns of a game, must be positive
+     * @throws IllegalArgumentException if maxTurns is not positive
+     */
+    public GameSimulatorImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event,
+                             final int maxTurns) {
+        this(new GameManagerImpl(Objects.requireNonNull(lineup, "Lineup cannot be null"), event), maxTurns);
+    }
+
+    /**
+     * Creates a seeded simulator for the given bot lineup and game event.
+     * Two simulators created with the same arguments play exactly the same sequence of games.
+     *
+     * @param lineup   the function creating the bots of a new game, they must all be bots
+     * @param event    the event every game is played with, or {@code null} to select a random one on each game
+     * @param maxTurns the maximum number of turns of a game, must be positive
+     * @param seed     the seed of the games played by this simulator
+     * @throws IllegalArgumentException if maxTurns is not positive
+     */
+    public GameSimulatorImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event,
+                             final int maxTurns, final long seed) {
+        this(new GameManagerImpl(Objects.requireNonNull(lineup, "Lineup cannot be null"), event, seed), maxTurns);
+    }
+
+    private GameSimulatorImpl(final GameManagerImpl manager, final int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turns must be positive, got: " + maxTurns);
+        }
+        this.manager = manager;
+        this.maxTurns = maxTurns;
+    }
+
+    @Override
+    public SimulationResult play() {
+        manager.init();
+
+        int turns = 0;
+        Optional<Integer> winner = manager.getWinner();
+        while (winner.isEmpty() && turns < maxTurns) {
+            playTurn(manager.nextPlayer());
+            turns++;
+            winner = manager.getWinner();
+        }
+
+        if (winner.isEmpty()) {
+            LOGGER.warn("Game interrupted after {} turns without a winner", turns);
+            manager.dumpJournal("turn limit reached");
+        }
+        LOGGER.debug("Simulated game ended. Winner: {}, turns: {}, refills: {}",
+                winner, turns, manager.getRefillCount());
+        return new SimulationResult(winner.orElse(SimulationResult.NO_WINNER), turns,
+                manager.getRefillCount(), manager.getCurrentEvent());
+    }
+
+    /**
+     * Plays the turn of a bot, which chooses among the legal moves so that a single execution is needed.
+     *
+     * @param player the player whose turn it is
+     * @throws IllegalStateException if the player is not a bot or its move is rejected
+     */
+    private void playTurn(final Player player) {
+        if (!player.isBot()) {
+            LOGGER.error("Player {} is not a bot and cannot be simulated", player.getId());
+            manager.dumpJournal("human player in a simulation");
+            throw new IllegalStateException("Only bots can play a simulated game, player "
+                    + player.getId() + " is not a bot");
+        }
+        final Optional<Card> intention = player.playCard(manager.getLegalMoves());
+        if (!manager.executeTurn(intention.orElse(null))) {
+            LOGGER.error("Legal move {} of player {} was rejected", intention, player.getId());
+            manager.dumpJournal("legal move rejected");
+            throw new IllegalStateException("Legal move rejected for player " + player.getId());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+
+/**
+ * Receives the events happening on the table of a {@link GameManager}, as soon as they happen.
+ *
+ * <p>
+ * Callbacks are invoked synchronously on the thread driving the game and only carry primitives and
+ * immutable cards, so a listener that does not allocate adds no allocation to the game. Listeners must
+ * return quickly and must not call back into the manager; slow consumers should go through a
+ * {@link BufferedTableListener}. Every callback does nothing by default.
+ * </p>
+ */
+public interface TableListener {
+
+    /**
+     * A new game has been dealt.
+     *
+     * @param event     the game event the game is played with
+     * @param startCard the first card of the discard pile
+     */
+    default void onGameStarted(final GameEvent event, final Card startCard) {
+        // Ignored by default
+    }
+
+    /**
+     * A player has taken a seat at the game just started, right after {@link #onGameStarted(GameEvent, Card)}.
+     * Players are announced in seat order, which is the order turns follow while the direction is not reversed.
+     *
+     * @param playerId  the player
+     * @param cardCount the number of cards dealt to the player
+     * @param isBot     whether the player is a bot, which never draws while it holds a playable card
+     */
+    default void onPlayerSeated(final int playerId, final int cardCount, final boolean isBot) {
+        // Ignored by default
+    }
+
+    /**
+     * A player's turn has started.
+     *
+     * @param playerId the player whose turn it is
+     */
+    default void onTurnStarted(final int playerId) {
+        // Ignored by default
+    }
+
+    /**
+     * A player has played a valid card, now on top of the discard pile.
+     *
+     * @param playerId the player who played the card
+     * @param card     the card played, with the declared color for Wild cards
+     */
+    default void onCardPlayed(final int playerId, final Card card) {
+        // Ignored by default
+    }
+
+    /**
+     * A player has drawn cards, either by choice or as a malus.
+     *
+     * @param playerId the player who drew
+     * @param count    the number of cards drawn
+     */
+    default void onCardsDrawn(final int playerId, final int count) {
+        // Ignored by default
+    }
+
+    /**
+     * The direction of play has been reversed.
+     *
+     * @param playerId the player whose card reversed the direction
+     */
+    default void onDirectionReversed(final int playerId) {
+        // Ignored by default
+    }
+
+    /**
+     * A player's turn has been skipped.
+     *
+     * @param playerId the player who loses the turn
+     */
+    default void onTurnSkipped(final int playerId) {
+        // Ignored by default
+    }
+
+    /**
+     * A penalty card has been added to the malus chain.
+     *
+     * @param playerId    the player who played the penalty card
+     * @param totalAmount the number of cards now pending
+     */
+    default void onMalusAccumulated(final int playerId, final int totalAmount) {
+        // Ignored by default
+    }
+
+    /**
+     * A player has accepted the malus and drawn the pending cards.
+     *
+     * @param playerId the player who accepted the malus
+     * @param amount   the number of cards drawn
+     */
+    default void onMalusResolved(final int playerId, final int amount) {
+        // Ignored by default
+    }
+
+    /**
+     * The deck has been refilled from the discard pile.
+     *
+     * @param cardCount the number of cards in the deck after the refill
+     */
+    default void onDeckRefilled(final int cardCount) {
+        // Ignored by default
+    }
+
+    /**
+     * A player has emptied their hand and won the game.
+     *
+     * @param playerId the winner
+     */
+    default void onGameWon(final int playerId) {
+        // Ignored by default
+    }
+}
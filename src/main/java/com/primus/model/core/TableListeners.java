@@ -0,0 +1,124 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The listeners registered on a game manager, notified in registration order.
+ * Registrations replace the array of listeners, so that notifying them needs neither locks nor iterators.
+ */
+final class TableListeners implements TableListener {
+
+    private volatile TableListener[] listeners = new TableListener[0];
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException if the listener is null
+     */
+    synchronized void add(final TableListener listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        final TableListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregisters a listener, if registered.
+     *
+     * @param listener the listener to remove
+     */
+    synchronized void remove(final TableListener listener) {
+        final TableListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(listener)) {
+                final TableListener[] updated = new TableListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onGameStarted(final GameEvent event, final Card startCard) {
+        for (final TableListener listener : listeners) {
+            listener.onGameStarted(event, startCard);
+        }
+    }
+
+    @Override
+    public void onPlayerSeated(final int playerId, final int cardCount, final boolean isBot) {
+        for (final TableListener listener : listeners) {
+            listener.onPlayerSeated(playerId, cardCount, isBot);
+        }
+    }
+
+    @Override
+    public void onTurnStarted(final int playerId) {
+        for (final TableListener listener : listeners) {
+            listener.onTurnStarted(playerId);
+        }
+    }
+
+    @Override
+    public void onCardPlayed(final int playerId, final Card card) {
+        for (final TableListener listener : listeners) {
+            listener.onCardPlayed(playerId, card);
+        }
+    }
+
+    @Override
+    public void onCardsDrawn(final int playerId, final int count) {
+        for (final TableListener listener : listeners) {
+            listener.onCardsDrawn(playerId, count);
+        }
+    }
+
+    @Override
+    public void onDirectionReversed(final int playerId) {
+        for (final TableListener listener : listeners) {
+            listener.onDirectionReversed(playerId);
+        }
+    }
+
+    @Override
+    public void onTurnSkipped(final int playerId) {
+        for (final TableListener listener : listeners) {
+            listener.onTurnSkipped(playerId);
+        }
+    }
+
+    @Override
+    public void onMalusAccumulated(final int playerId, final int totalAmount) {
+        for (final TableListener listener : listeners) {
+            listener.onMalusAccumulated(playerId, totalAmount);
+        }
+    }
+
+    @Override
+    public void onMalusResolved(final int playerId, final int amount) {
+        for (final TableListener listener : listeners) {
+            listener.onMalusResolved(playerId, amount);
+        }
+    }
+
+    @Override
+    public void onDeckRefilled(final int cardCount) {
+        for (final TableListener listener : listeners) {
+            listener.onDeckRefilled(cardCount);
+        }
+    }
+
+    @Override
+    public void onGameWon(final int playerId) {
+        for (final TableListener listener : listeners) {
+            listener.onGameWon(playerId);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.primus.model.core;
+
+import com.primus.utils.TournamentResult;
+
+/**
+ * Interface to play a series of bot-only games in parallel and aggregate their results.
+ */
+public interface TournamentRunner {
+
+    /**
+     * Plays the given number of games and merges their results.
+     *
+     * @param games the number of games to play, must be non-negative
+     * @return the aggregated {@link TournamentResult}
+     * @throws IllegalArgumentException if games is negative
+     */
+    TournamentResult run(int games);
+
+    /**
+     * Plays the given number of games with a fixed seed and merges their results.
+     * Every game is seeded from the run seed and its own index, so the same seed produces the same
+     * result regardless of how games are spread over threads.
+     *
+     * @param games the number of games to play, must be non-negative
+     * @param seed  the seed of the run
+     * @return the aggregated {@link TournamentResult}
+     * @throws IllegalArgumentException if games is negative
+     */
+    TournamentResult run(int games, long seed);
+}
@@ -0,0 +1,206 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Player;
+import com.primus.model.player.bot.BotFactory;
+import com.primus.utils.SimulationResult;
+import com.primus.utils.TournamentResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link TournamentRunner} that spreads games over a {@link ForkJoinPool}.
+ * Games are split in batches of consecutive indexes, and every game is played by its own
+ * {@link GameSimulatorImpl}, so the manager, the deck and the bot strategies are never shared between
+ * threads. Each batch accumulates its results locally and publishes them once through {@link LongAdder}
+ * counters, keeping contention negligible.
+ */
+public final class TournamentRunnerImpl implements TournamentRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TournamentRunnerImpl.class);
+    private static final int BATCHES_PER_THREAD = 8;
+
+    private final Function<BotFactory, List<Player>> lineup;
+    private final GameEvent event;
+    private final int parallelism;
+
+    /**
+     * Creates a runner using every available core.
+     *
+     * @param lineup the function creating the bots of a new game, they must all be bots
+     * @param event  the event every game is played with
+     */
+    public TournamentRunnerImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event) {
+        this(lineup, event, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a runner using the given number of threads.
+     *
+     * @param lineup      the function creating the bots of a new game, they must all be bots
+     * @param event       the event every game is played with
+     * @param parallelism the number of worker threads, must be positive
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public TournamentRunnerImpl(final Function<BotFactory, List<Player>> lineup, final GameEvent event,
+                                final int parallelism) {
+        this.lineup = Objects.requireNonNull(lineup, "Lineup cannot be null");
+        this.event = Objects.requireNonNull(event, "Game event cannot be null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive, got: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the seed of a single game of a run, so that it can be replayed with a seeded {@link GameSimulatorImpl}.
+     * Game seeds are drawn in index order from one generator seeded with the run's seed, so runs with different
+     * seeds, even adjacent ones, do not share their games.
+     *
+     * @param seed  the seed of the run
+     * @param index the index of the game in the run, must be non-negative
+     * @return the seed of the game
+     * @throws IllegalArgumentException if index is negative
+     */
+    public static long gameSeed(final long seed, final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Game index must be non-negative, got: " + index);
+        }
+        final SplittableRandom generator = new SplittableRandom(seed);
+        for (int i = 0; i < index; i++) {
+            generator.nextLong();
+        }
+        return generator.nextLong();
+    }
+
+    /**
+     * Returns the seeds of every game of a run, as given one by one by {@link #gameSeed(long, int)}.
+     *
+     * @param seed  the seed of the run
+     * @param games the number of games of the run
+     * @return the seed of each game, by index
+     */
+    private static long[] gameSeeds(final long seed, final int games) {
+        final SplittableRandom generator = new SplittableRandom(seed);
+        final long[] seeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            seeds[i] = generator.nextLong();
+        }
+        return seeds;
+    }
+
+    @Override
+    public TournamentResult run(final int games) {
+        return run(games, new SplittableRandom().nextLong());
+    }
+
+    @Override
+    public TournamentResult run(final int games, final long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must be non-negative, got: " + games);
+        }
+        LOGGER.info("Starting tournament of {} games ({}) on {} threads with seed {}",
+                games, event, parallelism, seed);
+
+        // Seeds are drawn before forking, so they do not depend on how games are spread over threads
+        final long[] seeds = gameSeeds(seed, games);
+        final Counters counters = new Counters();
+        final int batchSize = Math.max(1, games / (parallelism * BATCHES_PER_THREAD));
+        final List<Callable<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < games; from += batchSize) {
+            final int start = from;
+            final int end = Math.min(games, from + batchSize);
+            batches.add(() -> {
+                playBatch(start, end, seeds, counters);
+                return null;
+            });
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (final Future<Void> batch : pool.invokeAll(batches)) {
+                batch.get();
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.error("Tournament interrupted", e);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (final ExecutionException e) {
+            LOGGER.error("A simulated game failed", e.getCause());
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        final TournamentResult result = counters.toResult(event, games);
+        LOGGER.info("Tournament ended. Wins: {}, unfinished: {}, average turns: {}",
+                result.wins(), result.unfinished(), result.averageTurns());
+        return result;
+    }
+
+    /**
+     * Thread-safe accumulators shared by every task of a run.
+     */
+    private static final class Counters {
+        private final Map<Integer, LongAdder> wins = new ConcurrentHashMap<>();
+        private final LongAdder unfinished = new LongAdder();
+        private final LongAdder turns = new LongAdder();
+        private final LongAdder refills = new LongAdder();
+
+        private void add(final Map<Integer, Long> batchWins, final long batchUnfinished,
+                         final long batchTurns, final long batchRefills) {
+            batchWins.forEach((id, count) -> wins.computeIfAbsent(id, k -> new LongAdder()).add(count));
+            unfinished.add(batchUnfinished);
+            turns.add(batchTurns);
+            refills.add(batchRefills);
+        }
+
+        private TournamentResult toResult(final GameEvent event, final int games) {
+            final Map<Integer, Long> totalWins = new HashMap<>();
+            wins.forEach((id, count) -> totalWins.put(id, count.sum()));
+            return new TournamentResult(event, games, totalWins, unfinished.sum(), turns.sum(), refills.sum());
+        }
+    }
+
+    /**
+     * Plays the games with index in {@code [from, to)} and publishes their results once at the end.
+     *
+     * @param from     the index of the first game, inclusive
+     * @param to       the index of the last game, exclusive
+     * @param seeds    the seeds of the games of the run, by index
+     * @param counters the accumulators of the run
+     */
+    private void playBatch(final int from, final int to, final long[] seeds, final Counters counters) {
+        final Map<Integer, Long> batchWins = new HashMap<>();
+        long batchUnfinished = 0;
+        long batchTurns = 0;
+        long batchRefills = 0;
+        for (int i = from; i < to; i++) {
+            // A new simulator for every game, so that no component outlives its game
+            final SimulationResult result = new GameSimulatorImpl(lineup, event,
+                    GameSimulatorImpl.DEFAULT_MAX_TURNS, seeds[i]).play();
+            if (result.hasWinner()) {
+                batchWins.merge(result.winnerId(), 1L, Long::sum);
+            } else {
+                batchUnfinished++;
+            }
+            batchTurns += result.turns();
+            batchRefills += result.refills();
+        }
+        counters.add(batchWins, batchUnfinished, batchTurns, batchRefills);
+    }
+}
@@ -5,6 +5,19 @@ package com.primus.model.deck;
  */
 public interface Card {
 
+    /**
+     * ID of a card that does not belong to any {@link CardTable}.
+     */
+    int NO_ID = -1;
+
+    /**
+     * Gets the ID of the card in the {@link CardTable} of its deck configuration.
+     * Cards of the same table have the same ID if and only if they are equal.
+     *
+     * @return the ID of the card, or {@link #NO_ID} if the card was not created by a table
+     */
+    int getId();
+
     /**
      * Gets the color of the card.
      *
@@ -41,6 +54,15 @@ public interface Card {
      */
     boolean hasEffect(CardEffect effect);
 
+    /**
+     * Gets the effects of the card packed as a mask of {@link CardEffect#mask()} bits.
+     * This allows testing several effects at once, e.g.
+     * {@code (card.getEffectMask() & (SKIP_NEXT.mask() | REVERSE_TURN.mask())) != 0}.
+     *
+     * @return the effect mask of the card (0 if it has no effect)
+     */
+    int getEffectMask();
+
     /**
      * Checks if the card is natively a Wild card (Wild or Wild Draw Four),
      * regardless of its current effective color.
@@ -51,11 +73,13 @@ public interface Card {
     boolean isNativeBlack();
 
     /**
-     * Creates a NEW copy of this card with the specified color.
+     * Returns a copy of this card with the specified color.
      * Use this method when a player chooses a color for a Wild card.
+     * Cards of a {@link CardTable} return the canonical instance of the table when it exists,
+     * every other card returns a NEW instance.
      *
      * @param color the new color to assign
-     * @return a new Card instance with the updated color and the same value
+     * @return a Card instance with the updated color and the same value
      */
     Card withColor(Color color);
 
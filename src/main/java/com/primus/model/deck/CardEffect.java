@@ -1,8 +1,13 @@
 package com.primus.model.deck;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enumeration representing special effects or capabilities a card can possess.
  * This allows defining card behaviors dynamically via configuration (CSV).
+ * Each effect owns a single bit, so the effects of a card can be stored and tested as an {@code int} mask.
  */
 public enum CardEffect {
     /**
@@ -18,5 +23,52 @@ public enum CardEffect {
     /**
      * Indicates the card can always be played, ignoring standard matching rules.
      */
-    ALWAYS_PLAYABLE
+    ALWAYS_PLAYABLE;
+
+    private final int mask;
+
+    CardEffect() {
+        this.mask = 1 << ordinal();
+    }
+
+    /**
+     * Gets the bit representing this effect in an effect mask.
+     *
+     * @return the mask with only the bit of this effect set
+     */
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Packs a collection of effects into a mask.
+     *
+     * @param effects the effects to pack, may be null for no effects
+     * @return the mask with the bit of every given effect set
+     */
+    public static int toMask(final Collection<CardEffect> effects) {
+        int result = 0;
+        if (effects != null) {
+            for (final CardEffect effect : effects) {
+                result |= effect.mask;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unpacks a mask into the set of its effects.
+     *
+     * @param mask the mask to unpack
+     * @return a new set containing every effect whose bit is set in the mask
+     */
+    public static Set<CardEffect> fromMask(final int mask) {
+        final Set<CardEffect> effects = EnumSet.noneOf(CardEffect.class);
+        for (final CardEffect effect : values()) {
+            if ((mask & effect.mask) != 0) {
+                effects.add(effect);
+            }
+        }
+        return effects;
+    }
 }
@@ -0,0 +1,133 @@
+package com.primus.model.deck;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Canonical table of the distinct cards of a deck configuration.
+ *
+ * <p>
+ * Every distinct (color, value, drawAmount, effects) combination is assigned a small integer ID,
+ * in the range {@code [0, size())}, and a single immutable {@link Card} instance. Native Wild cards are
+ * registered together with their variant for each playable color, so that {@link Card#withColor(Color)}
+ * on a card of the table always returns an instance of the same table instead of allocating a new one.
+ * Cards of the same table are therefore equal if and only if they are the same reference.
+ * </p>
+ *
+ * <p>
+ * A table is immutable once created and can be shared between threads.
+ * </p>
+ */
+public final class CardTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardTable.class);
+    private static final Color[] COLORS = Color.values();
+
+    private final PrimusCard[] cards;
+    private final Map<Card, PrimusCard> canonical;
+    private final int[] colorVariants;
+
+    private CardTable(final Set<Card> definitions) {
+        this.cards = new PrimusCard[definitions.size()];
+        this.canonical = new HashMap<>();
+        int id = 0;
+        for (final Card c : definitions) {
+            final PrimusCard card = new PrimusCard(c.getColor(), c.getValue(), c.getDrawAmount(),
+                    c.getEffectMask(), this, id);
+            cards[id] = card;
+            canonical.put(card, card);
+            id++;
+        }
+
+        // For every card, the ID of its variant in each color, or NO_ID if the variant is not in the table
+        this.colorVariants = new int[cards.length * COLORS.length];
+        for (final PrimusCard card : cards) {
+            for (final Color color : COLORS) {
+                final PrimusCard variant = canonical.get(new PrimusCard(color, card.getValue(), card.getDrawAmount(),
+                        card.getEffectMask()));
+                colorVariants[card.getId() * COLORS.length + color.ordinal()] =
+                        variant == null ? Card.NO_ID : variant.getId();
+            }
+        }
+        LOGGER.debug("Card table created with {} distinct cards", cards.length);
+    }
+
+    /**
+     * Creates the table of the distinct cards of the given collection.
+     * IDs are assigned in order of first appearance; the colored variants of native Wild cards follow.
+     *
+     * @param cards the cards of a deck configuration, duplicates are allowed
+     * @return a new table containing every distinct card of the collection
+     * @throws NullPointerException if the collection or one of its cards is null
+     */
+    public static CardTable of(final Collection<? extends Card> cards) {
+        Objects.requireNonNull(cards, "Cards cannot be null");
+        final Set<Card> definitions = new LinkedHashSet<>();
+        for (final Card card : cards) {
+            definitions.add(new PrimusCard(card.getColor(), card.getValue(), card.getDrawAmount(),
+                    card.getEffectMask()));
+        }
+        final Set<Card> wilds = new LinkedHashSet<>();
+        for (final Card card : definitions) {
+            if (card.isNativeBlack()) {
+                for (final Color color : COLORS) {
+                    wilds.add(card.withColor(color));
+                }
+            }
+        }
+        definitions.addAll(wilds);
+        return new CardTable(definitions);
+    }
+
+    /**
+     * Returns the number of distinct cards of the table.
+     *
+     * @return the size of the table, IDs are in the range {@code [0, size())}
+     */
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * Returns the canonical instance with the given ID.
+     *
+     * @param id the ID of the card
+     * @return the card with the given ID
+     * @throws IndexOutOfBoundsException if the ID is not in the range {@code [0, size())}
+     */
+    public Card get(final int id) {
+        return cards[Objects.checkIndex(id, cards.length)];
+    }
+
+    /**
+     * Returns the canonical instance of a card.
+     *
+     * @param card the card to look up
+     * @return the instance of this table equal to the given card, or the card itself if it is not part of the table
+     * @throws NullPointerException if the card is null
+     */
+    public Card intern(final Card card) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        final PrimusCard interned = canonical.get(card);
+        return interned == null ? card : interned;
+    }
+
+    /**
+     * Returns the variant of a card of this table with another color.
+     *
+     * @param id    the ID of the card
+     * @param color the requested color
+     * @return the canonical variant, or {@code null} if the table does not contain it
+     */
+    Card withColor(final int id, final Color color) {
+        final int variant = colorVariants[id * COLORS.length + color.ordinal()];
+        return variant == Card.NO_ID ? null : cards[variant];
+    }
+}
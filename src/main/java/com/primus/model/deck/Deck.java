@@ -1,5 +1,7 @@
 package com.primus.model.deck;
 
+import java.util.List;
+
 /**
  * Deck interface representing a deck of cards in the game.
  */
@@ -22,6 +24,13 @@ public interface Deck {
      */
     boolean isEmpty();
 
+    /**
+     * Returns the number of cards left in the deck.
+     *
+     * @return the size of the deck
+     */
+    int size();
+
     /**
      * Draws a card from the top of the deck.
      *
@@ -30,6 +39,25 @@ public interface Deck {
      */
     Card drawCard();
 
+    /**
+     * Returns the card at the given position without drawing it, 0 being the bottom of the deck.
+     *
+     * @param position the position of the card, the top card is at {@code size() - 1}
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    Card getCard(int position);
+
+    /**
+     * Draws several cards from the top of the deck in one operation.
+     *
+     * @param count the number of cards to draw, must not be negative
+     * @return the drawn cards, a fixed-size list of {@code count} cards owned by the caller
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException    if the deck holds fewer than {@code count} cards
+     */
+    List<Card> drawCards(int count);
+
     /**
      * Draws the starting card for the game, ensuring it is not a Wild card.
      * This method is used to determine the initial card on the discard pile at the start of the game.
@@ -41,6 +69,7 @@ public interface Deck {
     /**
      * Refills the deck from the given drop pile.
      * When the deck is empty but the game is still ongoing
+     * Every card of the pile but the top one joins the cards left in the deck, and the whole deck is shuffled.
      *
      * @param discardPile the drop pile to refill from
      */
@@ -9,18 +9,17 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * Utility class responsible for parsing deck configuration files.
  *
  * <p>
  * It reads a CSV-like format (COLOR,VALUE,QUANTITY) and converts it
- * into a list of {@link PrimusCard} objects.
+ * into a list of {@link PrimusCard} objects. The cards of a file are interned in a {@link CardTable},
+ * so every copy of the same card is the same instance.
  * </p>
  *
  */
@@ -52,6 +51,25 @@ public final class DeckFileReader {
      * @throws IOException              if an I/O error occurs while reading the file.
      */
     public List<Card> loadDeck(final String fileName) throws IOException {
+        final List<Card> cards = parseDeck(fileName);
+
+        // Copies of the same card share the canonical instance of the deck's card table
+        final CardTable table = CardTable.of(cards);
+        cards.replaceAll(table::intern);
+
+        LOGGER.info("Deck loaded successfully from file: {}. Total cards parsed: {}, distinct cards: {}",
+                fileName, cards.size(), table.size());
+        return cards;
+    }
+
+    /**
+     * Parses a configuration file from the resources folder without interning its cards.
+     *
+     * @param fileName the name of the file to read (must be in resources/ classpath).
+     * @return a List of freshly created {@link Card} objects, in file order.
+     * @throws IOException if an I/O error occurs while reading the file.
+     */
+    List<Card> parseDeck(final String fileName) throws IOException {
         final List<Card> cards = new ArrayList<>();
         Objects.requireNonNull(fileName, "File name must not be null");
 
@@ -91,7 +109,6 @@ public final class DeckFileReader {
             throw new IllegalStateException("Failed to load the deck from file " + fileName, e);
         }
 
-        LOGGER.info("Deck loaded successfully from file: {}. Total cards parsed: {}", fileName, cards.size());
         return cards;
     }
 
@@ -118,12 +135,13 @@ public final class DeckFileReader {
             throw new IllegalArgumentException("Quantity must be positive " + quantity);
         }
 
-        final Set<CardEffect> effects = EnumSet.noneOf(CardEffect.class);
+        // Effects are resolved to their bits once here, cards only store the packed mask
+        int effectMask = 0;
         if (parts.length > 3 && !parts[3].isBlank()) {
             final String[] effectNames = parts[3].trim().split(EFFECTS_SEPARATOR);
             for (final String effectName : effectNames) {
                 if (!effectName.isBlank()) {
-                    effects.add(CardEffect.valueOf(effectName.trim().toUpperCase(Locale.ROOT)));
+                    effectMask |= CardEffect.valueOf(effectName.trim().toUpperCase(Locale.ROOT)).mask();
                 }
             }
         }
@@ -135,7 +153,7 @@ public final class DeckFileReader {
 
         final List<Card> parsedCards = new ArrayList<>();
         for (int i = 0; i < quantity; i++) {
-            parsedCards.add(new PrimusCard(color, value, drawAmount, effects));
+            parsedCards.add(new PrimusCard(color, value, drawAmount, effectMask));
         }
         return parsedCards;
     }
@@ -0,0 +1,139 @@
+package com.primus.model.deck;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-parsed, immutable content of a deck configuration file.
+ *
+ * <p>
+ * Each configuration file is read, validated and interned in its {@link CardTable} only once per JVM;
+ * the resulting template is cached and shared by every deck built from that file. Since cards are immutable,
+ * a new deck only needs to copy the template's card references and shuffle them.
+ * </p>
+ */
+@ThreadSafe
+public final class DeckTemplate {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckTemplate.class);
+    private static final Map<String, DeckTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String fileName;
+    private final CardTable table;
+    private final Card[] cards;
+
+    private DeckTemplate(final String fileName, final CardTable table, final Card[] cards) {
+        this.fileName = fileName;
+        this.table = table;
+        this.cards = cards;
+    }
+
+    /**
+     * Returns the template of the deck used by the given game event.
+     *
+     * @param event the game event
+     * @return the cached template of the event's deck
+     * @throws IllegalStateException if the configuration file cannot be read or is empty
+     */
+    public static DeckTemplate forEvent(final GameEvent event) {
+        Objects.requireNonNull(event, "GameEvent cannot be null");
+        return forFile(event.getFileName());
+    }
+
+    /**
+     * Returns the template of the given configuration file, parsing it on first use.
+     *
+     * @param fileName the name of the file to read (must be in resources/ classpath)
+     * @return the cached template of the file
+     * @throws IllegalArgumentException if the file is not found or has an invalid format
+     * @throws IllegalStateException    if the file cannot be read or contains no cards
+     */
+    public static DeckTemplate forFile(final String fileName) {
+        Objects.requireNonNull(fileName, "File name must not be null");
+        return CACHE.computeIfAbsent(fileName, DeckTemplate::load);
+    }
+
+    private static DeckTemplate load(final String fileName) {
+        final List<Card> parsed;
+        try {
+            parsed = new DeckFileReader().parseDeck(fileName);
+        } catch (final IOException e) {
+            LOGGER.error("Failed to load deck template from file: {}", fileName, e);
+            throw new IllegalStateException("Failed to load the deck from file " + fileName, e);
+        }
+        if (parsed.isEmpty()) {
+            LOGGER.error("Deck file {} parsed but no cards were loaded.", fileName);
+            throw new IllegalStateException("Loaded deck is empty: " + fileName);
+        }
+
+        final CardTable table = CardTable.of(parsed);
+        final Card[] cards = new Card[parsed.size()];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = table.intern(parsed.get(i));
+        }
+        LOGGER.info("Deck template cached for file: {}. Total cards: {}, distinct cards: {}",
+                fileName, cards.length, table.size());
+        return new DeckTemplate(fileName, table, cards);
+    }
+
+    /**
+     * Returns the name of the configuration file this template was parsed from.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the table interning every card of this template.
+     *
+     * @return the card table of the deck
+     */
+    public CardTable getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the number of cards in the deck.
+     *
+     * @return the size of the deck
+     */
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * Returns the cards of the deck, in file order.
+     *
+     * @return an unmodifiable view of the cards
+     */
+    public List<Card> getCards() {
+        return Collections.unmodifiableList(Arrays.asList(cards));
+    }
+
+    /**
+     * Copies the cards of the deck, in file order, into the given array.
+     * A new array is allocated only if the given one is too small.
+     *
+     * @param destination the array to fill, may be reused from a previous game
+     * @return the filled array, holding the cards in positions {@code [0, size())} and null after them
+     */
+    public Card[] copyInto(final Card[] destination) {
+        final Card[] target = destination != null && destination.length >= cards.length
+                ? destination
+                : new Card[cards.length];
+        System.arraycopy(cards, 0, target, 0, cards.length);
+        Arrays.fill(target, cards.length, target.length, null);
+        return target;
+    }
+}
@@ -29,6 +29,22 @@ public interface DropPile {
      */
     List<Card> extractAllExceptTop();
 
+    /**
+     * Returns the number of cards in the drop pile, top card included.
+     *
+     * @return the size of the drop pile
+     */
+    int size();
+
+    /**
+     * Returns the card at the given position without removing it, 0 being the bottom of the pile.
+     *
+     * @param position the position of the card, the top card is at {@code size() - 1}
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    Card getCard(int position);
+
     /**
      * Checks if the drop pile is empty.
      *
@@ -1,6 +1,7 @@
 package com.primus.model.deck;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Enumeration representing different game events or modes in the Primus card game.
@@ -60,7 +61,17 @@ public enum GameEvent {
      * @return a randomly selected GameEvent
      */
     public static GameEvent getRandomEvent() {
+        return getRandomEvent(RND);
+    }
+
+    /**
+     * Selects and returns a random GameEvent using the given source of randomness.
+     *
+     * @param random the generator used for the selection
+     * @return a randomly selected GameEvent
+     */
+    public static GameEvent getRandomEvent(final RandomGenerator random) {
         final GameEvent[] events = values();
-        return events[RND.nextInt(events.length)];
+        return events[random.nextInt(events.length)];
     }
 }
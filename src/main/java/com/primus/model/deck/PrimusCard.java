@@ -3,7 +3,6 @@ package com.primus.model.deck;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
@@ -19,7 +18,10 @@ public final class PrimusCard implements Card {
     private final Values value;
 
     private final int drawAmount;
-    private final Set<CardEffect> effects;
+    private final int effectMask;
+    private final int hash;
+    private final CardTable table;
+    private final int id;
 
     /**
      * Creates a new PrimusCard with the specified color and value.
@@ -30,16 +32,47 @@ public final class PrimusCard implements Card {
      * @param effects    the set of special effects associated with this card
      */
     public PrimusCard(final Color color, final Values value, final int drawAmount, final Set<CardEffect> effects) {
+        this(color, value, drawAmount, CardEffect.toMask(effects), null, NO_ID);
+    }
+
+    /**
+     * Creates a new PrimusCard with the effects packed in a mask.
+     *
+     * @param color      the color of the card (cannot be null)
+     * @param value      the value of the card (cannot be null)
+     * @param drawAmount the number of cards the next player must draw when this card is played (non-negative)
+     * @param effectMask the effects of the card, as a mask of {@link CardEffect#mask()} bits
+     */
+    public PrimusCard(final Color color, final Values value, final int drawAmount, final int effectMask) {
+        this(color, value, drawAmount, effectMask, null, NO_ID);
+    }
+
+    /**
+     * Creates the canonical instance of a card of a {@link CardTable}.
+     *
+     * @param color      the color of the card (cannot be null)
+     * @param value      the value of the card (cannot be null)
+     * @param drawAmount the number of cards the next player must draw when this card is played (non-negative)
+     * @param effectMask the effects of the card, as a mask of {@link CardEffect#mask()} bits
+     * @param table      the table the card belongs to, or null for a card outside any table
+     * @param id         the ID of the card in the table, or {@link Card#NO_ID}
+     */
+    PrimusCard(final Color color, final Values value, final int drawAmount, final int effectMask,
+               final CardTable table, final int id) {
 
         //Check for null values to avoid NullPointerException
         this.color = Objects.requireNonNull(color, "Color cannot be null");
         this.value = Objects.requireNonNull(value, "Value cannot be null");
         this.drawAmount = Math.max(0, drawAmount);
-        this.effects = effects == null ? Collections.emptySet() : Set.copyOf(effects);
+        this.effectMask = effectMask;
+        this.table = table;
+        this.id = id;
+        // Cards are immutable, so the hash is computed once instead of on every lookup
+        this.hash = 31 * (31 * (31 * this.color.ordinal() + this.value.ordinal()) + this.drawAmount) + effectMask;
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("Created PrimusCard: color={}, value={}, drawAmount={}, effects={}",
-                    this.color, this.value, this.drawAmount, this.effects);
+                    this.color, this.value, this.drawAmount, CardEffect.fromMask(this.effectMask));
         }
     }
 
@@ -50,7 +83,15 @@ public final class PrimusCard implements Card {
      * @param value the value of the card.
      */
     public PrimusCard(final Color color, final Values value) {
-        this(color, value, 0, Collections.emptySet());
+        this(color, value, 0, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return id;
     }
 
     /**
@@ -82,7 +123,15 @@ public final class PrimusCard implements Card {
      */
     @Override
     public boolean hasEffect(final CardEffect effect) {
-        return effects.contains(effect);
+        return (effectMask & effect.mask()) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getEffectMask() {
+        return effectMask;
     }
 
     /**
@@ -104,8 +153,15 @@ public final class PrimusCard implements Card {
             return this;
         }
 
+        if (table != null) {
+            final Card variant = table.withColor(id, newColor);
+            if (variant != null) {
+                return variant;
+            }
+        }
+
         LOGGER.debug("Morphing card {} to new color {}", this, newColor);
-        return new PrimusCard(newColor, this.value, this.drawAmount, this.effects);
+        return new PrimusCard(newColor, this.value, this.drawAmount, this.effectMask);
     }
 
     @Override
@@ -119,8 +175,8 @@ public final class PrimusCard implements Card {
             sb.append(" (+").append(drawAmount).append(')');
         }
 
-        if (!effects.isEmpty()) {
-            sb.append(' ').append(effects);
+        if (effectMask != 0) {
+            sb.append(' ').append(CardEffect.fromMask(effectMask));
         }
 
         return sb.toString();
@@ -138,10 +194,15 @@ public final class PrimusCard implements Card {
             return false;
         }
         final PrimusCard that = (PrimusCard) o;
-        return color == that.color
+        if (table != null && table == that.table) {
+            // Canonical instances: different references are different cards
+            return false;
+        }
+        return hash == that.hash
+                && color == that.color
                 && value == that.value
                 && drawAmount == that.drawAmount
-                && Objects.equals(effects, that.effects);
+                && effectMask == that.effectMask;
     }
 
     /**
@@ -149,6 +210,6 @@ public final class PrimusCard implements Card {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(color, value, drawAmount, effects);
+        return hash;
     }
 }
@@ -1,55 +1,71 @@
 package com.primus.model.deck;
 
+import com.primus.metrics.DeckEvent;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of the Deck interface representing a deck of cards in the Primus game.
  * This class provides methods to initialize, shuffle, draw cards, and refill the deck
  * from a discard pile.
+ *
+ * <p>
+ * Cards are kept in a plain array whose last used slot is the top of the deck, and they are shuffled in place.
+ * When refilled from a {@link PrimusDropPile} the deck and the pile simply exchange their arrays, so once
+ * initialized a deck never allocates again.
+ * </p>
  */
 public final class PrimusDeck implements Deck {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PrimusDeck.class);
+    private static final int ACTION_EFFECTS = CardEffect.SKIP_NEXT.mask() | CardEffect.REVERSE_TURN.mask();
     private String configFileName;
-    private final List<Card> cards;
+    private Card[] cards;
+    private int size;
+    private final RandomGenerator random;
     private boolean isInitialized;
 
     /**
-     * Constructs a PrimusDeck with the default configuration file.
+     * Constructs a PrimusDeck with the default configuration file and an unseeded source of randomness.
      */
     public PrimusDeck() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a PrimusDeck with the default configuration file, shuffled with the given generator.
+     * Two decks built with generators in the same state are shuffled in the same order.
+     *
+     * @param random the generator used to shuffle the deck, it must not be shared with other threads
+     */
+    public PrimusDeck(final RandomGenerator random) {
         this.configFileName = GameEvent.STANDARD.getFileName();
-        this.cards = new ArrayList<>();
+        this.cards = new Card[0];
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
     }
 
     @Override
     public void init() {
-        LOGGER.info("Initializing PrimusDeck...");
+        LOGGER.debug("Initializing PrimusDeck...");
+        final DeckEvent event = new DeckEvent();
+        event.begin();
         isInitialized = true;
 
-        this.cards.clear();
-        try {
-            final DeckFileReader loader = new DeckFileReader();
-            final List<Card> loadedCards = loader.loadDeck(this.configFileName);
-
-            if (loadedCards.isEmpty()) {
-                LOGGER.error("Deck file parsed but no cards were loaded.");
-                throw new IllegalStateException("Loaded deck is empty.");
-            }
-            this.cards.addAll(loadedCards);
-            LOGGER.info("Deck initialized successfully. Total cards loaded: {}", this.cards.size());
-            shuffle();
-        } catch (final IOException e) {
-            LOGGER.error("Failed to initialize deck from file: {}", this.configFileName, e);
-            throw new IllegalStateException("Failed to initialize deck", e);
-        }
+        // The file is parsed once per JVM, a new game only copies the cached cards
+        final DeckTemplate template = DeckTemplate.forFile(this.configFileName);
+        this.cards = template.copyInto(this.cards);
+        this.size = template.size();
+        LOGGER.debug("Deck initialized successfully. Total cards loaded: {}", this.size);
+        // The shuffle reports its own event, so that deck events never overlap
+        event.complete(DeckEvent.INIT, this.size);
+        shuffle();
     }
 
     /**
@@ -60,54 +76,102 @@ public final class PrimusDeck implements Deck {
     public void setGameEvent(final GameEvent event) {
         Objects.requireNonNull(event, "GameEvent cannot be null");
         this.configFileName = event.getFileName();
-        LOGGER.info("Deck configuration set to event: {} (file: {})", event.getDescription(), this.configFileName);
+        LOGGER.debug("Deck configuration set to event: {} (file: {})", event.getDescription(), this.configFileName);
     }
 
     @Override
     public void shuffle() {
         ensureInitialized();
-        LOGGER.debug("Shuffling the deck containing {} cards.", this.cards.size());
-        Collections.shuffle(this.cards);
+        LOGGER.debug("Shuffling the deck containing {} cards.", this.size);
+        shuffleCards();
+    }
+
+    /**
+     * Shuffles every card of the deck. {@link com.primus.model.search.SearchState} refills its deck with the
+     * same shuffle, so that a search plays refills the way the game does.
+     */
+    private void shuffleCards() {
+        final DeckEvent event = new DeckEvent();
+        event.begin();
+        // In-place Fisher-Yates shuffle driven by the injected generator
+        for (int i = this.size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final Card tmp = this.cards[i];
+            this.cards[i] = this.cards[j];
+            this.cards[j] = tmp;
+        }
+        event.complete(DeckEvent.SHUFFLE, this.size);
     }
 
     @Override
     public boolean isEmpty() {
         ensureInitialized();
-        return this.cards.isEmpty();
+        return this.size == 0;
     }
 
     @Override
     public Card drawCard() {
         ensureInitialized();
-        if (this.cards.isEmpty()) {
+        if (this.size == 0) {
             LOGGER.warn("Attempted to draw a card from an empty deck.");
             throw new IllegalStateException("Deck is empty, call the refillFrom() method before drawing");
         }
 
-        //IMPORTANT: This is replaceable with the ...removeLast that does the same thing but works only from Java 21
-        final Card drawnCard = this.cards.remove(this.cards.size() - 1);
+        final Card drawnCard = this.cards[--this.size];
+        this.cards[this.size] = null;
         LOGGER.debug("Drawing card: {}", drawnCard);
 
         return drawnCard;
     }
 
+    @Override
+    public Card getCard(final int position) {
+        ensureInitialized();
+        return this.cards[Objects.checkIndex(position, this.size)];
+    }
+
+    @Override
+    public List<Card> drawCards(final int count) {
+        ensureInitialized();
+        if (count < 0) {
+            throw new IllegalArgumentException("Card count must not be negative, got: " + count);
+        }
+        if (count > this.size) {
+            LOGGER.warn("Attempted to draw {} cards from a deck of {}.", count, this.size);
+            throw new IllegalStateException("Deck holds only " + this.size + " cards, call the refillFrom() method"
+                    + " before drawing " + count);
+        }
+
+        if (count == 0) {
+            return List.of();
+        }
+        // The top of the deck is the end of the array: the drawn cards are a single slice
+        final int from = this.size - count;
+        final Card[] drawn = Arrays.copyOfRange(this.cards, from, this.size);
+        Arrays.fill(this.cards, from, this.size, null);
+        this.size = from;
+        LOGGER.debug("Drawing {} cards: {}", count, drawn);
+
+        return Arrays.asList(drawn);
+    }
+
     @Override
     public Card drawStartCard() {
         ensureInitialized();
         LOGGER.debug("Searching for a safe starting card in the deck...");
-        if (this.cards.isEmpty()) {
+        if (this.size == 0) {
             LOGGER.error("Deck is empty when attempting to draw a starting card.");
             throw new IllegalStateException("Deck is empty, call the refillFrom() method before drawing");
         }
-        for (int i = 0; i < cards.size(); i++) {
-            final Card candidate = cards.get(i);
+        for (int i = 0; i < this.size; i++) {
+            final Card candidate = this.cards[i];
 
             if (isSafeStartCard(candidate)) {
-                LOGGER.info("Found safe starting card: {}", candidate);
-                return cards.remove(i);
+                LOGGER.debug("Found safe starting card: {}", candidate);
+                return removeAt(i);
             }
         }
-        final Card forced = cards.remove(0);
+        final Card forced = removeAt(0);
         LOGGER.warn("No safe starting card found. Forcing draw of: {}", forced);
         return forced;
     }
@@ -120,7 +184,7 @@ public final class PrimusDeck implements Deck {
             return false;
         }
         final boolean isActionValue = card.getValue() == Values.SKIP || card.getValue() == Values.REVERSE;
-        final boolean hasActionEffect = card.hasEffect(CardEffect.SKIP_NEXT) || card.hasEffect(CardEffect.REVERSE_TURN);
+        final boolean hasActionEffect = (card.getEffectMask() & ACTION_EFFECTS) != 0;
 
         return !isActionValue && !hasActionEffect;
     }
@@ -129,27 +193,74 @@ public final class PrimusDeck implements Deck {
     public void refillFrom(final DropPile discardPile) {
         ensureInitialized();
         Objects.requireNonNull(discardPile, "DropPile cannot be null");
-        LOGGER.info("Deck is empty. Refilling from discard pile...");
-        final List<Card> recycledCards = discardPile.extractAllExceptTop();
+        LOGGER.debug("Deck is empty. Refilling from discard pile...");
+        final DeckEvent event = new DeckEvent();
+        event.begin();
+
+        // The cards left stay at the bottom and the recycled ones are put above them, in the pile's order
+        final int from = this.size;
+        final int recycled;
+        if (discardPile instanceof PrimusDropPile primusPile) {
+            recycled = Math.max(0, primusPile.size() - 1);
+            if (recycled > 0 && this.size == 0) {
+                // Zero-copy path: take the pile's array, the pile keeps its top card in ours
+                final Card[] emptyBuffer = this.cards;
+                this.cards = primusPile.exchangeBuffer(emptyBuffer);
+                this.cards[recycled] = null;
+                this.size = recycled;
+            } else if (recycled > 0) {
+                if (this.size + recycled > this.cards.length) {
+                    this.cards = Arrays.copyOf(this.cards, this.size + recycled);
+                }
+                primusPile.drainInto(this.cards, this.size);
+                this.size += recycled;
+            }
+        } else {
+            final List<Card> recycledCards = discardPile.extractAllExceptTop();
+            recycled = recycledCards.size();
+            if (this.size + recycled > this.cards.length) {
+                this.cards = Arrays.copyOf(this.cards, this.size + recycled);
+            }
+            for (final Card card : recycledCards) {
+                this.cards[this.size++] = card;
+            }
+        }
 
-        if (recycledCards.isEmpty()) {
+        if (recycled == 0) {
             LOGGER.warn("Refill failed: Discard pile has no cards to recycle.");
+            event.complete(DeckEvent.REFILL, this.size);
             return;
         }
 
-        this.cards.addAll(recycledCards);
-        LOGGER.info("Refill successful. {} cards added to the deck.", recycledCards.size());
-        shuffle();
+        // Wild cards go back to the deck as BLACK, dropping the color declared when they were played
+        for (int i = from; i < from + recycled; i++) {
+            if (this.cards[i].isNativeBlack()) {
+                this.cards[i] = this.cards[i].withColor(Color.BLACK);
+            }
+        }
+        LOGGER.debug("Refill successful. {} cards added to the deck.", recycled);
+        event.complete(DeckEvent.REFILL, this.size);
+        // The whole deck is shuffled, so the cards left are not necessarily drawn first
+        shuffleCards();
+    }
+
+    @Override
+    public int size() {
+        ensureInitialized();
+        return this.size;
     }
 
     /**
-     * Returns the current size of the deck.
+     * Removes the card at the given position, keeping the order of the other cards.
      *
-     * @return the number of cards in the deck
+     * @param index the position of the card to remove
+     * @return the removed card
      */
-    public int size() {
-        ensureInitialized();
-        return this.cards.size();
+    private Card removeAt(final int index) {
+        final Card removed = this.cards[index];
+        System.arraycopy(this.cards, index + 1, this.cards, index, this.size - index - 1);
+        this.cards[--this.size] = null;
+        return removed;
     }
 
     /**
@@ -4,21 +4,40 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Implementation of the DropPile interface representing the discard pile in the Primus game.
+ * Cards are kept in a plain array, sized once for the whole deck when the capacity is known, which
+ * {@link PrimusDeck} can take over when it is refilled instead of copying the cards.
  */
 public final class PrimusDropPile implements DropPile {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PrimusDropPile.class);
-    private final List<Card> pile;
+    private static final int DEFAULT_CAPACITY = 16;
+    private Card[] pile;
+    private int size;
 
     /**
      * Constructs an empty PrimusDropPile.
      */
     public PrimusDropPile() {
-        this.pile = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty PrimusDropPile able to hold the given number of cards without growing.
+     *
+     * @param capacity the initial capacity, usually the size of the deck
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public PrimusDropPile(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative, got: " + capacity);
+        }
+        this.pile = new Card[Math.max(1, capacity)];
     }
 
     /**
@@ -30,8 +49,11 @@ public final class PrimusDropPile implements DropPile {
             LOGGER.warn("Attempted to add a null card to the discard pile");
             return;
         }
-        this.pile.add(card);
-        LOGGER.debug("Card added to DropPile: {}. Total stack size: {}", card, this.pile.size());
+        if (this.size == this.pile.length) {
+            this.pile = Arrays.copyOf(this.pile, this.pile.length * 2);
+        }
+        this.pile[this.size++] = card;
+        LOGGER.debug("Card added to DropPile: {}. Total stack size: {}", card, this.size);
     }
 
     /**
@@ -39,12 +61,11 @@ public final class PrimusDropPile implements DropPile {
      */
     @Override
     public Card peek() {
-        if (this.pile.isEmpty()) {
+        if (this.size == 0) {
             LOGGER.warn("Peek requested on an empty discard pile");
             throw new IllegalStateException("Discard pile is empty. No top card");
         }
-        //IMPORTANT: This is replaceable with the ...getLast that does the same thing but works only from Java 21
-        return this.pile.get(this.pile.size() - 1);
+        return this.pile[this.size - 1];
     }
 
     /**
@@ -52,25 +73,24 @@ public final class PrimusDropPile implements DropPile {
      */
     @Override
     public List<Card> extractAllExceptTop() {
-        if (this.pile.isEmpty()) {
+        if (this.size == 0) {
             LOGGER.debug("Recycle requested on an empty discard pile. Returning empty list.");
             return new ArrayList<>();
         }
 
-        final int size = this.pile.size();
-
-        if (size == 1) {
+        if (this.size == 1) {
             LOGGER.debug("Recycle requested but only one card in discard pile. Keeping top card and returning empty list.");
             return new ArrayList<>();
         }
 
-        final Card topCard = this.pile.get(size - 1);
-        final List<Card> cardsToRecycle = new ArrayList<>(this.pile.subList(0, size - 1));
+        final Card topCard = this.pile[this.size - 1];
+        final List<Card> cardsToRecycle = new ArrayList<>(Arrays.asList(this.pile).subList(0, this.size - 1));
 
-        this.pile.clear();
-        this.pile.add(topCard);
+        Arrays.fill(this.pile, 1, this.size, null);
+        this.pile[0] = topCard;
+        this.size = 1;
 
-        LOGGER.info("Recycling {} cards from discard pile to deck. Top card {} remains.", cardsToRecycle.size(), topCard);
+        LOGGER.debug("Recycling {} cards from discard pile to deck. Top card {} remains.", cardsToRecycle.size(), topCard);
 
         return cardsToRecycle;
     }
@@ -80,7 +100,69 @@ public final class PrimusDropPile implements DropPile {
      */
     @Override
     public boolean isEmpty() {
-        return this.pile.isEmpty();
+        return this.size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card getCard(final int position) {
+        return this.pile[Objects.checkIndex(position, this.size)];
+    }
+
+    /**
+     * Hands the backing array over to the caller and continues on the given one, holding only the top card.
+     * The returned array contains the recycled cards in positions {@code [0, size() - 1)} and the top card,
+     * which stays on the pile, in position {@code size() - 1}.
+     *
+     * @param replacement an empty array the pile will use from now on
+     * @return the previous backing array of the pile
+     * @throws IllegalStateException if the pile is empty
+     */
+    Card[] exchangeBuffer(final Card[] replacement) {
+        if (this.size == 0) {
+            throw new IllegalStateException("Discard pile is empty. No top card");
+        }
+        final Card[] recycled = this.pile;
+        final Card topCard = recycled[this.size - 1];
+        LOGGER.debug("Recycling {} cards from discard pile to deck. Top card {} remains.", this.size - 1, topCard);
+
+        this.pile = replacement.length > 0 ? replacement : new Card[DEFAULT_CAPACITY];
+        this.pile[0] = topCard;
+        this.size = 1;
+        return recycled;
+    }
+
+    /**
+     * Copies every card but the top one into the given array and keeps only the top card, without allocating.
+     * The cards are copied in the order they were played, the oldest at {@code offset}.
+     *
+     * @param destination the array receiving the recycled cards, with room for {@code size() - 1} cards
+     * @param offset      the position of the first recycled card in the destination
+     * @return the number of recycled cards
+     * @throws IndexOutOfBoundsException if the destination is too small
+     */
+    int drainInto(final Card[] destination, final int offset) {
+        if (this.size <= 1) {
+            return 0;
+        }
+        final int recycled = this.size - 1;
+        final Card topCard = this.pile[recycled];
+        LOGGER.debug("Recycling {} cards from discard pile to deck. Top card {} remains.", recycled, topCard);
+        System.arraycopy(this.pile, 0, destination, offset, recycled);
+        Arrays.fill(this.pile, 1, this.size, null);
+        this.pile[0] = topCard;
+        this.size = 1;
+        return recycled;
     }
 
     /**
@@ -91,8 +173,8 @@ public final class PrimusDropPile implements DropPile {
     @Override
     public String toString() {
         return "PrimusDropPile{"
-                + "size=" + pile.size()
-                + " top=" + (pile.isEmpty() ? "None" : peek())
+                + "size=" + size
+                + " top=" + (size == 0 ? "None" : peek())
                 + '}';
     }
 }
@@ -0,0 +1,290 @@
+package com.primus.model.player;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The cards held by a player.
+ *
+ * <p>
+ * Besides the cards themselves the hand keeps, updated on every change, how many copies of each card ID
+ * and how many cards of each color and value it holds, together with the positions where the copies of each
+ * ID are stored. Size, membership and color, value and copy frequency of cards interned in a
+ * {@link com.primus.model.deck.CardTable} are therefore constant-time operations; other cards, e.g. created
+ * on the fly, are looked up by a linear scan. Like {@link List#remove(Object)}, removing a card takes out its
+ * first copy and shifts the cards after it, so the hand keeps the order the cards were added in: hands hold a
+ * few dozen cards at most, so the shift stays cheap.
+ * </p>
+ *
+ * <p>
+ * {@link #asList()} returns a read-only live view of the hand, created once, so reading the hand does not
+ * copy it. Callers that need a snapshot must copy the view themselves.
+ * </p>
+ */
+public final class Hand {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_COPIES = 2;
+    private static final int NOT_INDEXED = -1;
+    private static final int[] EMPTY = new int[0];
+
+    private Card[] cards = new Card[INITIAL_CAPACITY];
+    // For every position, the index of the position in the list of its ID, or NOT_INDEXED
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // For every ID: the instance the ID stands for, the number of copies and their positions
+    private Card[] byId = new Card[0];
+    private int[] counts = EMPTY;
+    private int[][] positions = new int[0][];
+
+    private final int[] colorCounts = new int[Color.values().length];
+    private final int[] valueCounts = new int[Values.values().length];
+    private final List<Card> view = new View();
+
+    /**
+     * Adds a card to the hand.
+     *
+     * @param card the card to add
+     * @throws NullPointerException if the card is null
+     */
+    public void add(final Card card) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        ensureCapacity(size + 1);
+        final int position = size++;
+        cards[position] = card;
+        slots[position] = NOT_INDEXED;
+        colorCounts[card.getColor().ordinal()]++;
+        valueCounts[card.getValue().ordinal()]++;
+
+        final int id = card.getId();
+        if (id < 0) {
+            return;
+        }
+        ensureIdCapacity(id + 1);
+        if (byId[id] == null) {
+            byId[id] = card;
+        } else if (byId[id] != card) {
+            // Same ID but another table, the card is handled as a foreign one
+            return;
+        }
+        if (positions[id].length == counts[id]) {
+            positions[id] = Arrays.copyOf(positions[id], Math.max(INITIAL_COPIES, counts[id] * 2));
+        }
+        slots[position] = counts[id];
+        positions[id][counts[id]++] = position;
+    }
+
+    /**
+     * Adds all the given cards to the hand, growing it at most once.
+     *
+     * @param toAdd the cards to add
+     * @throws NullPointerException if the collection or one of its cards is null
+     */
+    public void addAll(final Collection<? extends Card> toAdd) {
+        Objects.requireNonNull(toAdd, "Cards cannot be null");
+        ensureCapacity(size + toAdd.size());
+        for (final Card card : toAdd) {
+            add(card);
+        }
+    }
+
+    /**
+     * Removes one copy of the given card from the hand.
+     *
+     * @param card the card to remove
+     * @return {@code true} if the hand contained the card
+     * @throws NullPointerException if the card is null
+     */
+    public boolean remove(final Card card) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        final int position = find(card);
+        if (position < 0) {
+            return false;
+        }
+        removeAt(position);
+        return true;
+    }
+
+    /**
+     * Checks whether the hand holds at least one copy of the given card.
+     *
+     * @param card the card to look for
+     * @return {@code true} if the hand contains the card
+     */
+    public boolean contains(final Card card) {
+        return card != null && find(card) >= 0;
+    }
+
+    /**
+     * Returns the number of cards of the given color, Wild cards count as {@link Color#BLACK}.
+     *
+     * @param color the color
+     * @return the number of cards of that color in the hand
+     */
+    public int countOf(final Color color) {
+        return colorCounts[Objects.requireNonNull(color, "Color cannot be null").ordinal()];
+    }
+
+    /**
+     * Returns the number of cards of the given value.
+     *
+     * @param value the value
+     * @return the number of cards of that value in the hand
+     */
+    public int countOf(final Values value) {
+        return valueCounts[Objects.requireNonNull(value, "Value cannot be null").ordinal()];
+    }
+
+    /**
+     * Returns the number of copies of the given card.
+     *
+     * @param card the card to count
+     * @return the number of copies in the hand, 0 if the card is null
+     */
+    public int countOf(final Card card) {
+        if (card == null) {
+            return 0;
+        }
+        final int id = card.getId();
+        if (id >= 0 && id < byId.length && byId[id] == card) {
+            return counts[id];
+        }
+        int copies = 0;
+        for (int i = 0; i < size; i++) {
+            if (cards[i].equals(card)) {
+                copies++;
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the number of cards in the hand.
+     *
+     * @return the size of the hand
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the hand is empty.
+     *
+     * @return {@code true} if the hand holds no cards
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a read-only view of the hand, reflecting later changes.
+     *
+     * @return the unmodifiable live view of the cards
+     */
+    public List<Card> asList() {
+        return view;
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    private int find(final Card card) {
+        final int id = card.getId();
+        if (id >= 0 && id < byId.length && byId[id] == card && counts[id] > 0) {
+            // The copies are indexed in no particular order, the first one is the lowest position
+            int first = positions[id][0];
+            for (int slot = 1; slot < counts[id]; slot++) {
+                first = Math.min(first, positions[id][slot]);
+            }
+            return first;
+        }
+        // Not an indexed instance: an equal card can be anywhere
+        for (int i = 0; i < size; i++) {
+            if (cards[i].equals(card)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int position) {
+        final Card removed = cards[position];
+        colorCounts[removed.getColor().ordinal()]--;
+        valueCounts[removed.getValue().ordinal()]--;
+        if (slots[position] != NOT_INDEXED) {
+            unindex(removed.getId(), slots[position]);
+        }
+
+        final int last = --size;
+        // The cards after the removed one move down by one, keeping their order
+        for (int i = position; i < last; i++) {
+            cards[i] = cards[i + 1];
+            slots[i] = slots[i + 1];
+            if (slots[i] != NOT_INDEXED) {
+                positions[cards[i].getId()][slots[i]] = i;
+            }
+        }
+        cards[last] = null;
+    }
+
+    private void unindex(final int id, final int slot) {
+        final int lastSlot = --counts[id];
+        if (slot != lastSlot) {
+            // The position stored in the last slot of the ID fills the gap
+            final int moved = positions[id][lastSlot];
+            positions[id][slot] = moved;
+            slots[moved] = slot;
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > cards.length) {
+            final int newCapacity = Math.max(capacity, cards.length * 2);
+            cards = Arrays.copyOf(cards, newCapacity);
+            slots = Arrays.copyOf(slots, newCapacity);
+        }
+    }
+
+    private void ensureIdCapacity(final int capacity) {
+        if (capacity > byId.length) {
+            final int oldCapacity = byId.length;
+            final int newCapacity = Math.max(capacity, oldCapacity * 2);
+            byId = Arrays.copyOf(byId, newCapacity);
+            counts = Arrays.copyOf(counts, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+            Arrays.fill(positions, oldCapacity, newCapacity, EMPTY);
+        }
+    }
+
+    /**
+     * Read-only list backed by the cards of the hand.
+     */
+    private final class View extends AbstractList<Card> implements RandomAccess {
+
+        @Override
+        public Card get(final int index) {
+            return cards[Objects.checkIndex(index, size)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof Card card && Hand.this.contains(card);
+        }
+    }
+}
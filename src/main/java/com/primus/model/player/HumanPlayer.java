@@ -7,7 +7,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,7 +21,7 @@ import java.util.Optional;
 public final class HumanPlayer implements Player {
     private static final Logger LOGGER = LoggerFactory.getLogger(HumanPlayer.class);
 
-    private final List<Card> hand = new ArrayList<>();
+    private final Hand hand = new Hand();
     private final int id;
     private final String name;
 
@@ -53,7 +52,7 @@ public final class HumanPlayer implements Player {
 
     @Override
     public List<Card> getHand() {
-        return List.copyOf(hand);
+        return hand.asList();
     }
 
     @Override
@@ -84,7 +83,7 @@ public final class HumanPlayer implements Player {
         }
         if (valid) {
             if (hand.remove(cardInHand)) {
-                LOGGER.info("HumanPlayer (ID: {}) successfully played card: {}", id, cardPlayed);
+                LOGGER.debug("HumanPlayer (ID: {}) successfully played card: {}", id, cardPlayed);
             } else {
                 LOGGER.error("HumanPlayer (ID: {}) tried to play {} but it was NOT in hand! Hand: {}", id, cardPlayed, hand);
                 throw new IllegalStateException("The card validated is not present in the hand: " + cardPlayed);
@@ -20,6 +20,19 @@ public interface Player {
      */
     Optional<Card> playCard();
 
+    /**
+     * Chooses a card to play among the legal moves computed by the game.
+     * Since every candidate is legal, the returned card is always accepted.
+     * Players that cannot take advantage of the legal moves fall back to {@link #playCard()}.
+     *
+     * @param legalMoves the cards of the player's hand that can be played on the current table
+     * @return an {@code Optional} containing the card to play,
+     *      or an empty {@code Optional} if the player decides to pass the turn.
+     */
+    default Optional<Card> playCard(List<Card> legalMoves) {
+        return playCard();
+    }
+
     /**
      * Checks if the player is a bot.
      *
@@ -30,7 +43,7 @@ public interface Player {
     /**
      * Retrieves the current hand of the player.
      *
-     * @return unmodifiable list of cards in the player's hand
+     * @return unmodifiable view of the cards in the player's hand, reflecting later changes to the hand
      */
     List<Card> getHand();
 
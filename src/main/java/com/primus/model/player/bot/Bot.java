@@ -1,14 +1,19 @@
 package com.primus.model.player.bot;
 
+import com.primus.metrics.BotDecisionEvent;
+import com.primus.metrics.Histogram;
+import com.primus.metrics.Metrics;
+import com.primus.model.core.TableListener;
 import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Hand;
 import com.primus.model.player.Player;
 import com.primus.model.player.bot.strategy.card.CardStrategy;
 import com.primus.model.player.bot.strategy.color.ColorStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -19,15 +24,20 @@ import java.util.Set;
  * Represents a bot player in the game.
  * The bot implements the {@link Player} interface and provides its own behavior for playing cards,
  * passing turns, and managing its hand based on injected strategies.
+ * As a {@link TableListener} the bot forwards the events of its table to its observers, such as the
+ * {@link TableObservation} its strategies read.
  */
-public final class Bot implements Player {
+public final class Bot implements Player, TableListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(Bot.class);
     private final int id;
     private final String name;
-    private final List<Card> hand = new ArrayList<>();
+    private final Hand hand;
     private final Set<Card> rejectedCards = new LinkedHashSet<>();
     private final CardStrategy cardStrategy;
     private final ColorStrategy colorStrategy;
+    private final TableListener[] observers;
+    private final String strategyName;
+    private final Histogram decisionLatency;
 
     /**
      * Constructs a new Bot with specific strategies for card selection and color decision.
@@ -39,11 +49,31 @@ public final class Bot implements Player {
      * @throws NullPointerException if any strategy is null.
      */
     public Bot(final int id, final String name, final CardStrategy cardStrategy, final ColorStrategy colorStrategy) {
+        this(id, name, new Hand(), cardStrategy, colorStrategy, List.of());
+    }
+
+    /**
+     * Constructs a new Bot holding the given hand and whose strategies rely on observers of the table.
+     *
+     * @param id            the unique identifier.
+     * @param name          the name of the bot.
+     * @param hand          the empty hand the bot will hold, whose view may be shared with the observers.
+     * @param cardStrategy  the logic to select cards.
+     * @param colorStrategy the logic to select colors for Wild cards.
+     * @param observers     the listeners receiving the events of the bot's table.
+     * @throws NullPointerException if any argument is null.
+     */
+    public Bot(final int id, final String name, final Hand hand, final CardStrategy cardStrategy,
+               final ColorStrategy colorStrategy, final List<TableListener> observers) {
         Objects.requireNonNull(name);
         this.id = id;
         this.name = name;
+        this.hand = Objects.requireNonNull(hand);
         this.cardStrategy = Objects.requireNonNull(cardStrategy);
         this.colorStrategy = Objects.requireNonNull(colorStrategy);
+        this.observers = observers.toArray(new TableListener[0]);
+        this.strategyName = cardStrategy.getClass().getSimpleName();
+        this.decisionLatency = Metrics.getRegistry().histogram(Metrics.BOT_DECISION_PREFIX + strategyName);
     }
 
     /**
@@ -55,20 +85,48 @@ public final class Bot implements Player {
     public Optional<Card> playCard() {
         LOGGER.debug("Bot: {} is starting turn. Current hand: {}", id, hand);
         // The card strategy pick a card among possible moves
-        final Optional<Card> chosenOpt = cardStrategy.chooseCard(calculatePossibleMoves());
+        return decide(calculatePossibleMoves());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The CardStrategy only sees the legal moves, so the bot never has to guess.
+     *
+     * @throws NullPointerException if legalMoves is null.
+     */
+    @Override
+    public Optional<Card> playCard(final List<Card> legalMoves) {
+        Objects.requireNonNull(legalMoves);
+        LOGGER.debug("Bot: {} is starting turn. Legal moves: {}", id, legalMoves);
+        return decide(legalMoves);
+    }
+
+    /**
+     * Lets the strategies pick a card among the candidates and, for Wild cards, its color.
+     *
+     * @param candidates the cards the CardStrategy can choose from
+     * @return the card to play, or empty to pass the turn
+     */
+    private Optional<Card> decide(final List<Card> candidates) {
+        final BotDecisionEvent event = new BotDecisionEvent();
+        event.begin();
+        final long start = decisionLatency.start();
+        Optional<Card> chosenOpt = cardStrategy.chooseCard(candidates);
+        decisionLatency.recordSince(start);
         if (chosenOpt.isPresent()) {
             final Card card = chosenOpt.get();
-            LOGGER.info("{} decided to play: {}", id, card);
+            LOGGER.debug("{} decided to play: {}", id, card);
             // if the selected card is a black card decide its new color using color strategy and return it
             if (card.isNativeBlack()) {
                 final Color chosenColor = colorStrategy.chooseColor(getHand());
-                LOGGER.info("{} selected Wild color: {}", id, chosenColor);
-                return Optional.of(card.withColor(chosenColor));
+                LOGGER.debug("{} selected Wild color: {}", id, chosenColor);
+                chosenOpt = Optional.of(card.withColor(chosenColor));
             }
         } else { //pass turn
-            LOGGER.info("{} has no valid moves and PASSES the turn.", id);
+            LOGGER.debug("{} has no valid moves and PASSES the turn.", id);
             rejectedCards.clear();
         }
+        event.complete(id, strategyName, candidates.size(), chosenOpt);
         return chosenOpt;
     }
 
@@ -78,7 +136,7 @@ public final class Bot implements Player {
      * @return a list of potential candidates for the move.
      */
     private List<Card> calculatePossibleMoves() {
-        return hand.stream()
+        return hand.asList().stream()
                 .filter(card -> !rejectedCards.contains(card))
                 .toList();
     }
@@ -96,7 +154,7 @@ public final class Bot implements Player {
      */
     @Override
     public List<Card> getHand() {
-        return List.copyOf(hand);
+        return hand.asList();
     }
 
     /**
@@ -142,19 +200,98 @@ public final class Bot implements Player {
         } else {
             cardInHand = cardPlayed;
         }
-        if (!hand.contains(cardInHand)) {
-            throw new IllegalStateException("The card validated is not present in the hand: " + cardPlayed);
-        }
         if (!valid) {
-            LOGGER.info("Move refused for Bot {}: {}", id, cardPlayed);
+            if (!hand.contains(cardInHand)) {
+                throw new IllegalStateException("The card validated is not present in the hand: " + cardPlayed);
+            }
+            LOGGER.debug("Move refused for Bot {}: {}", id, cardPlayed);
             rejectedCards.add(cardInHand);
-        } else { // If the card is valid, remove the first occurrence from the hand and end the turn
+        } else { // If the card is valid, remove one copy from the hand and end the turn
+            if (!hand.remove(cardInHand)) {
+                throw new IllegalStateException("The card validated is not present in the hand: " + cardPlayed);
+            }
             LOGGER.debug("Move accepted for Bot {}", id);
-            hand.remove(cardInHand);
             rejectedCards.clear();
         }
     }
 
+    @Override
+    public void onGameStarted(final GameEvent event, final Card startCard) {
+        for (final TableListener observer : observers) {
+            observer.onGameStarted(event, startCard);
+        }
+    }
+
+    @Override
+    public void onPlayerSeated(final int playerId, final int cardCount, final boolean isBot) {
+        for (final TableListener observer : observers) {
+            observer.onPlayerSeated(playerId, cardCount, isBot);
+        }
+    }
+
+    @Override
+    public void onTurnStarted(final int playerId) {
+        for (final TableListener observer : observers) {
+            observer.onTurnStarted(playerId);
+        }
+    }
+
+    @Override
+    public void onCardPlayed(final int playerId, final Card card) {
+        for (final TableListener observer : observers) {
+            observer.onCardPlayed(playerId, card);
+        }
+    }
+
+    @Override
+    public void onCardsDrawn(final int playerId, final int count) {
+        for (final TableListener observer : observers) {
+            observer.onCardsDrawn(playerId, count);
+        }
+    }
+
+    @Override
+    public void onDirectionReversed(final int playerId) {
+        for (final TableListener observer : observers) {
+            observer.onDirectionReversed(playerId);
+        }
+    }
+
+    @Override
+    public void onTurnSkipped(final int playerId) {
+        for (final TableListener observer : observers) {
+            observer.onTurnSkipped(playerId);
+        }
+    }
+
+    @Override
+    public void onMalusAccumulated(final int playerId, final int totalAmount) {
+        for (final TableListener observer : observers) {
+            observer.onMalusAccumulated(playerId, totalAmount);
+        }
+    }
+
+    @Override
+    public void onMalusResolved(final int playerId, final int amount) {
+        for (final TableListener observer : observers) {
+            observer.onMalusResolved(playerId, amount);
+        }
+    }
+
+    @Override
+    public void onDeckRefilled(final int cardCount) {
+        for (final TableListener observer : observers) {
+            observer.onDeckRefilled(cardCount);
+        }
+    }
+
+    @Override
+    public void onGameWon(final int playerId) {
+        for (final TableListener observer : observers) {
+            observer.onGameWon(playerId);
+        }
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -1,11 +1,12 @@
 package com.primus.model.player.bot;
 
 import com.primus.model.player.Player;
+import com.primus.utils.SearchBudget;
 
 /**
  * Factory interface for creating different types of Bot players.
  * This interface abstracts the creation logic for bots, allowing the client
- * to instantiate bots with specific strategies (Random, Aggressive, Cheater).
+ * to instantiate bots with specific strategies (Random, Aggressive, Cheater, Search).
  *
  * @see Player
  */
@@ -31,12 +32,31 @@ public interface BotFactory {
 
     /**
      * Creates a "Fallax" bot initialized with a cheating strategy.
-     * This bot requires a specific victim to spy on. It uses information about the
-     * victim's hand to make calculated decisions.
+     * This bot requires a specific victim to target. It never sees the victim's hand: it only
+     * infers what the victim holds from the public table events, through an OpponentModel.
      *
      * @param id     the unique identifier to assign to the new bot.
-     * @param victim the {@link Player} whose hand will be exposed to this bot via OpponentInfo.
+     * @param victim the {@link Player} whose hand this bot estimates and tries to counter.
      * @return a new {@link Player} instance configured as a Fallax bot.
      */
     Player createFallax(int id, Player victim);
+
+    /**
+     * Creates a "Sapiens" bot initialized with a search strategy and the default search budget.
+     * This bot plays out many possible continuations of the game, dealing the cards it cannot see at random,
+     * and plays the move that wins most often.
+     *
+     * @param id the unique identifier to assign to the new bot.
+     * @return a new {@link Player} instance configured as a Sapiens bot.
+     */
+    Player createSapiens(int id);
+
+    /**
+     * Creates a "Sapiens" bot spending the given budget on each decision.
+     *
+     * @param id     the unique identifier to assign to the new bot.
+     * @param budget the iterations, time and threads available to each search.
+     * @return a new {@link Player} instance configured as a Sapiens bot.
+     */
+    Player createSapiens(int id, SearchBudget budget);
 }
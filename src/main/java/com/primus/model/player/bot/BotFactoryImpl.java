@@ -1,24 +1,45 @@
 package com.primus.model.player.bot;
 
+import com.primus.model.player.Hand;
 import com.primus.model.player.Player;
 import com.primus.model.player.bot.strategy.card.AggressiveStrategy;
 import com.primus.model.player.bot.strategy.card.CheaterStrategy;
+import com.primus.model.player.bot.strategy.card.IsmctsStrategy;
 import com.primus.model.player.bot.strategy.card.RandomStrategy;
+import com.primus.model.player.bot.strategy.color.IsmctsColorStrategy;
 import com.primus.model.player.bot.strategy.color.MostFrequentColorStrategy;
 import com.primus.model.player.bot.strategy.color.RandomColorStrategy;
+import com.primus.utils.SearchBudget;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
 
 /**
  * Concrete implementation of the {@link BotFactory} interface.
  */
 public final class BotFactoryImpl implements BotFactory {
 
+    private static final int DEFAULT_ITERATIONS = 1000;
+
+    private final SplittableRandom random;
+
     /**
-     * Creates a new instance of the BotFactoryImpl.
+     * Creates a new instance of the BotFactoryImpl with an unseeded source of randomness.
      */
     public BotFactoryImpl() {
-        // Default constructor intentionally empty
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new instance of the BotFactoryImpl. Every random strategy receives its own generator split
+     * from the given one, so bots created in the same order from equally seeded factories behave the same.
+     *
+     * @param random the generator the strategies' generators are split from
+     * @throws NullPointerException if {@code random} is {@code null}.
+     */
+    public BotFactoryImpl(final SplittableRandom random) {
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
     }
 
     /**
@@ -27,27 +48,63 @@ public final class BotFactoryImpl implements BotFactory {
      */
     @Override
     public Player createFortuitus(final int id) {
-        return new Bot(id, "Fortuitus", new RandomStrategy(), new RandomColorStrategy());
+        return new Bot(id, "Fortuitus", new RandomStrategy(random.split()), new RandomColorStrategy(random.split()));
     }
 
     /**
      * {@inheritDoc}
-     * Implementation: Uses {@link AggressiveStrategy} and {@link MostFrequentColorStrategy}.
+     * Implementation: Uses {@link AggressiveStrategy} and {@link MostFrequentColorStrategy}, counting the cards
+     * seen with an {@link UnseenCardTracker} over the bot's {@link TableObservation}.
      */
     @Override
     public Player createImplacabilis(final int id) {
-        return new Bot(id, "Implacabilis", new AggressiveStrategy(), new MostFrequentColorStrategy());
+        final Hand hand = new Hand();
+        final TableObservation observation = new TableObservation(id, hand.asList());
+        final UnseenCardTracker tracker = new UnseenCardTracker(observation, hand);
+        return new Bot(id, "Implacabilis", hand, new AggressiveStrategy(), new MostFrequentColorStrategy(tracker),
+                List.of(observation));
     }
 
     /**
      * {@inheritDoc}
-     * Implementation: Uses {@link CheaterStrategy} and {@link MostFrequentColorStrategy}.
+     * Implementation: Uses {@link CheaterStrategy} and {@link MostFrequentColorStrategy}. The hand of the victim
+     * is estimated from what an {@link OpponentModel} infers at the table, and the cards seen are counted with an
+     * {@link UnseenCardTracker}, both reading the bot's {@link TableObservation}.
      *
      * @throws NullPointerException if the victim is null.
      */
     @Override
     public Player createFallax(final int id, final Player victim) {
         Objects.requireNonNull(victim, "Victim player cannot be null for Fallax bot");
-        return new Bot(id, "Fallax", new CheaterStrategy(new OpponentInfoImpl(victim)), new MostFrequentColorStrategy());
+        final Hand hand = new Hand();
+        final TableObservation observation = new TableObservation(id, hand.asList());
+        final UnseenCardTracker tracker = new UnseenCardTracker(observation, hand);
+        final OpponentModel opponents = new OpponentModel(observation);
+        return new Bot(id, "Fallax", hand, new CheaterStrategy(opponents.viewOf(victim.getId()), tracker),
+                new MostFrequentColorStrategy(tracker), List.of(observation));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Implementation: Uses {@link IsmctsStrategy} and {@link IsmctsColorStrategy} with 1000 iterations per
+     * decision, spread over {@link SearchBudget#DEFAULT_PARALLELISM} trees.
+     */
+    @Override
+    public Player createSapiens(final int id) {
+        return createSapiens(id, SearchBudget.ofIterations(DEFAULT_ITERATIONS));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Implementation: Uses {@link IsmctsStrategy} and {@link IsmctsColorStrategy}.
+     *
+     * @throws NullPointerException if the budget is null.
+     */
+    @Override
+    public Player createSapiens(final int id, final SearchBudget budget) {
+        final Hand hand = new Hand();
+        final TableObservation observation = new TableObservation(id, hand.asList());
+        final IsmctsStrategy strategy = new IsmctsStrategy(observation, budget, random.split());
+        return new Bot(id, "Sapiens", hand, strategy, new IsmctsColorStrategy(strategy), List.of(observation));
     }
 }
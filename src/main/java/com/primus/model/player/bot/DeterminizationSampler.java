@@ -0,0 +1,187 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.rules.PrecomputedValidator;
+import com.primus.model.search.SearchState;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Deals the cards a bot cannot see into complete game positions that agree with its {@link TableObservation}.
+ *
+ * <p>
+ * {@link #prepare()} builds the known part of the position, i.e. the bot's hand, the discard pile, the turn and
+ * the malus, and collects the unseen cards: the whole deck of the event minus the bot's hand and the discard
+ * pile. Each call to {@link #sample(SearchState)} then shuffles the unseen cards and deals them so that every
+ * opponent holds as many cards as observed, its constrained cards avoid the cards it provably lacks, and the
+ * rest forms the deck. Sampling works on preallocated int arrays and does not allocate.
+ * </p>
+ *
+ * <p>
+ * Instances are not thread-safe: every thread uses its own sampler, possibly over the same observation.
+ * </p>
+ */
+public final class DeterminizationSampler {
+
+    private final TableObservation observation;
+    private final RandomGenerator random;
+
+    private PrecomputedValidator rules;
+    private SearchState root;
+    private int[] unseen = new int[0];
+    private int[] pool = new int[0];
+    private int poolSize;
+    // Snapshot of the opponents: hand sizes, constrained cards and the card IDs they exclude
+    private int[] handSizes = new int[0];
+    private int[] constrained = new int[0];
+    private boolean[] excluded = new boolean[0];
+    private int[] dealt = new int[0];
+    private int self;
+
+    /**
+     * Creates a sampler of the positions compatible with an observation.
+     *
+     * @param observation the observation of the bot
+     * @param random      the generator used to deal the cards, it must not be shared with other threads
+     * @throws NullPointerException if observation or random is null
+     */
+    public DeterminizationSampler(final TableObservation observation, final RandomGenerator random) {
+        this.observation = Objects.requireNonNull(observation, "Observation cannot be null");
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+    }
+
+    /**
+     * Reads the observation and prepares the known part of the positions. Samples reflect the observation as
+     * it was on the last call, which must be repeated after the observation changes.
+     *
+     * @return {@code false} if no game is observed or the known cards do not belong to the event's deck,
+     *      in which case no position can be sampled
+     */
+    public boolean prepare() {
+        if (!observation.isReady()) {
+            return false;
+        }
+        final int seats = observation.getSeatCount();
+        if (root == null || rules != observation.getRules() || root.getPlayerCount() != seats) {
+            rules = observation.getRules();
+            root = new SearchState(rules, seats, random);
+            unseen = new int[rules.getTable().size()];
+            handSizes = new int[seats];
+            constrained = new int[seats];
+            excluded = new boolean[seats * unseen.length];
+            dealt = new int[seats];
+        }
+        self = observation.getSeatOf(observation.getPlayerId());
+        root.clear();
+        final int kinds = unseen.length;
+
+        // Count the copies of every card not in the bot's hand nor on the discard pile
+        for (int id = 0; id < kinds; id++) {
+            unseen[id] = observation.getDeckCount(id);
+        }
+        for (final Card card : observation.getHand()) {
+            final int id = card.getId();
+            if (id < 0 || id >= kinds || rules.getTable().get(id) != card) {
+                return false;
+            }
+            root.addToHand(self, id);
+            unseen[observation.holdIdOf(id)]--;
+        }
+        for (int i = 0; i < observation.getPileSize(); i++) {
+            final int id = observation.getPileCard(i);
+            if (id < 0 || id >= kinds) {
+                return false;
+            }
+            root.addToDiscard(id);
+            unseen[observation.holdIdOf(id)]--;
+        }
+        root.setTurn(self, observation.isClockwise());
+        root.setMalus(observation.getMalus());
+
+        for (int seat = 0; seat < seats; seat++) {
+            handSizes[seat] = seat == self ? 0 : observation.getHandSize(seat);
+            constrained[seat] = Math.min(observation.getConstrainedCount(seat), handSizes[seat]);
+            for (int id = 0; id < kinds; id++) {
+                excluded[seat * kinds + id] = constrained[seat] > 0 && observation.isExcluded(seat, id);
+            }
+        }
+
+        poolSize = 0;
+        for (int id = 0; id < kinds; id++) {
+            for (int copy = 0; copy < unseen[id]; copy++) {
+                if (poolSize == pool.length) {
+                    pool = Arrays.copyOf(pool, Math.max(kinds, pool.length * 2));
+                }
+                pool[poolSize++] = id;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the known part of the positions: the bot's hand and the discard pile, with empty opponent hands
+     * and an empty deck. The bot is the seat to move.
+     *
+     * @return the root position of the last {@link #prepare()}, not to be modified
+     * @throws IllegalStateException if the sampler has never been prepared
+     */
+    public SearchState getRoot() {
+        if (root == null) {
+            throw new IllegalStateException("The sampler has not been prepared");
+        }
+        return root;
+    }
+
+    /**
+     * Returns the number of cards dealt by each sample.
+     *
+     * @return the number of cards the bot cannot see
+     */
+    public int getUnseenCount() {
+        return poolSize;
+    }
+
+    /**
+     * Overwrites a position with a new random deal of the unseen cards.
+     *
+     * @param target the position to fill, created for the rules of the observed game and one seat per player
+     * @throws IllegalStateException    if the sampler has never been prepared
+     * @throws IllegalArgumentException if the target does not match the observed game
+     */
+    public void sample(final SearchState target) {
+        target.copyFrom(getRoot());
+        for (int i = poolSize - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+
+        final int kinds = unseen.length;
+        int next = 0;
+        // Constrained cards first, taking the first unseen cards they are allowed to be
+        for (int seat = 0; seat < handSizes.length; seat++) {
+            dealt[seat] = 0;
+            for (int i = next; i < poolSize && dealt[seat] < constrained[seat]; i++) {
+                if (!excluded[seat * kinds + pool[i]]) {
+                    final int card = pool[i];
+                    pool[i] = pool[next];
+                    pool[next++] = card;
+                    target.addToHand(seat, card);
+                    dealt[seat]++;
+                }
+            }
+        }
+        // Then the other cards of each hand, and the rest is the deck
+        for (int seat = 0; seat < handSizes.length; seat++) {
+            for (int card = dealt[seat]; card < handSizes[seat] && next < poolSize; card++) {
+                target.addToHand(seat, pool[next++]);
+            }
+        }
+        while (next < poolSize) {
+            target.addToDeck(pool[next++]);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.rules.PrecomputedValidator;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The cards of a game event as a {@link TableObservation} counts them, computed once per event and shared by
+ * every observation.
+ *
+ * <p>
+ * The index maps every card ID to the ID it is held as, counts the copies of every held card, color and value in
+ * the deck and, for every evidence, i.e. a top card an opponent drew on with or without a malus, records the held
+ * cards that would have matched the top card and the colors and values all of whose cards would have.
+ * </p>
+ */
+@ThreadSafe
+final class EventIndex {
+
+    /**
+     * Evidence of a seat that has not drawn instead of playing.
+     */
+    static final int NO_EVIDENCE = -1;
+
+    private static final Map<GameEvent, EventIndex> CACHE = new ConcurrentHashMap<>();
+    private static final int ALL_COLORS = (1 << Color.values().length) - 1;
+    private static final long ALL_VALUES = (1L << Values.values().length) - 1;
+
+    private final PrecomputedValidator rules;
+    private final int[] holdIds;
+    private final int[] deckCounts;
+    private final int[] deckColorCounts = new int[Color.values().length];
+    private final int[] deckValueCounts = new int[Values.values().length];
+    private final int deckSize;
+    private final boolean[] matching;
+    private final int[] colorsLacked;
+    private final long[] valuesLacked;
+
+    private EventIndex(final PrecomputedValidator rules, final DeckTemplate template) {
+        this.rules = rules;
+        final CardTable table = template.getTable();
+        this.holdIds = new int[table.size()];
+        for (int id = 0; id < holdIds.length; id++) {
+            final Card card = table.get(id);
+            holdIds[id] = card.isNativeBlack() ? card.withColor(Color.BLACK).getId() : id;
+        }
+        this.deckCounts = new int[table.size()];
+        for (final Card card : template.getCards()) {
+            final Card held = table.get(holdIds[card.getId()]);
+            deckCounts[held.getId()]++;
+            deckColorCounts[held.getColor().ordinal()]++;
+            deckValueCounts[held.getValue().ordinal()]++;
+        }
+        this.deckSize = template.getCards().size();
+        final int rows = evidenceOf(table.size(), false);
+        this.matching = new boolean[rows * holdIds.length];
+        this.colorsLacked = new int[rows];
+        this.valuesLacked = new long[rows];
+        for (int row = 0; row < rows; row++) {
+            indexEvidence(table, row);
+        }
+    }
+
+    /**
+     * Returns the index of the cards of an event, computing it on first use.
+     *
+     * @param event the game event
+     * @return the shared index of the event's deck
+     * @throws NullPointerException if the event is null
+     */
+    static EventIndex forEvent(final GameEvent event) {
+        Objects.requireNonNull(event, "GameEvent cannot be null");
+        return CACHE.computeIfAbsent(event,
+                e -> new EventIndex(PrecomputedValidator.forEvent(e), DeckTemplate.forEvent(e)));
+    }
+
+    /**
+     * Returns the evidence of a draw on a top card.
+     *
+     * @param top     the ID of the top card
+     * @param defense whether a malus was pending, so that only defenses could have been played
+     * @return the evidence, usable with {@link #matches(int, int)} and the lacked masks
+     */
+    static int evidenceOf(final int top, final boolean defense) {
+        return top * 2 + (defense ? 1 : 0);
+    }
+
+    PrecomputedValidator getRules() {
+        return rules;
+    }
+
+    int size() {
+        return holdIds.length;
+    }
+
+    int holdIdOf(final int id) {
+        return holdIds[id];
+    }
+
+    int getDeckCount(final int holdId) {
+        return deckCounts[holdId];
+    }
+
+    int getDeckCount(final Color color) {
+        return deckColorCounts[color.ordinal()];
+    }
+
+    int getDeckCount(final Values value) {
+        return deckValueCounts[value.ordinal()];
+    }
+
+    int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Checks whether a held card would have matched the top card of an evidence.
+     */
+    boolean matches(final int evidence, final int holdId) {
+        return matching[evidence * holdIds.length + holdId];
+    }
+
+    /**
+     * Returns the colors all of whose cards would have matched the top card of an evidence, as a bit mask.
+     */
+    int colorsLacked(final int evidence) {
+        return colorsLacked[evidence];
+    }
+
+    /**
+     * Returns the values all of whose cards would have matched the top card of an evidence, as a bit mask.
+     */
+    long valuesLacked(final int evidence) {
+        return valuesLacked[evidence];
+    }
+
+    static int bit(final Color color) {
+        return 1 << color.ordinal();
+    }
+
+    static long bit(final Values value) {
+        return 1L << value.ordinal();
+    }
+
+    private void indexEvidence(final CardTable table, final int row) {
+        final int top = row / 2;
+        final boolean defense = row % 2 == 1;
+        // A color or value is lacked unless one of its cards would not have matched
+        int unmatchedColors = 0;
+        long unmatchedValues = 0;
+        for (int holdId = 0; holdId < holdIds.length; holdId++) {
+            if (holdIds[holdId] != holdId) {
+                continue;
+            }
+            final boolean matches = defense ? rules.canDefend(top, holdId) : rules.canPlay(top, holdId);
+            matching[row * holdIds.length + holdId] = matches;
+            if (!matches) {
+                final Card card = table.get(holdId);
+                unmatchedColors |= bit(card.getColor());
+                unmatchedValues |= bit(card.getValue());
+            }
+        }
+        colorsLacked[row] = ~unmatchedColors & ALL_COLORS;
+        valuesLacked[row] = ~unmatchedValues & ALL_VALUES;
+    }
+}
@@ -0,0 +1,108 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+
+import java.util.Objects;
+
+/**
+ * What a bot infers about its opponents from the public events of the table.
+ *
+ * <p>
+ * The model adds nothing to the {@link TableObservation} of the bot, which is the only one to follow the table
+ * events: it exposes, seat by seat, the history of the hand sizes and the colors and values a bot opponent lacked
+ * the last time it drew instead of matching the top card. The cards escaping that evidence are those not
+ * constrained by the observation; nothing is inferred from the draws of humans, who may draw by choice.
+ * </p>
+ *
+ * <p>
+ * Strategies read the model through the {@link OpponentView} returned by {@link #viewOf(int)}. Updates happen on
+ * the game thread, where the views are meant to be read too.
+ * </p>
+ */
+public final class OpponentModel {
+
+    private final TableObservation observation;
+
+    /**
+     * Creates the model of a bot.
+     *
+     * @param observation the observation of the bot's table, which must receive the table events
+     * @throws NullPointerException if observation is null
+     */
+    public OpponentModel(final TableObservation observation) {
+        this.observation = Objects.requireNonNull(observation, "Observation cannot be null");
+    }
+
+    /**
+     * Returns the view of an opponent, bound to its ID so it follows the opponent across games.
+     *
+     * @param playerId the ID of the opponent
+     * @return the live, read-only view of what is known about the opponent
+     */
+    public OpponentView viewOf(final int playerId) {
+        return new View(playerId);
+    }
+
+    /**
+     * View bound to a player ID, resolving its seat on every query.
+     */
+    private final class View implements OpponentView {
+
+        private final int playerId;
+
+        private View(final int playerId) {
+            this.playerId = playerId;
+        }
+
+        @Override
+        public int getId() {
+            return playerId;
+        }
+
+        @Override
+        public int getHandSize() {
+            final int seat = observation.getSeatOf(playerId);
+            return seat == TableObservation.NO_SEAT ? 0 : observation.getHandSize(seat);
+        }
+
+        @Override
+        public int getHistoryLength() {
+            final int seat = observation.getSeatOf(playerId);
+            return seat == TableObservation.NO_SEAT ? 0 : observation.getHistoryLength(seat);
+        }
+
+        @Override
+        public int getHandSizeAt(final int index) {
+            final int seat = observation.getSeatOf(playerId);
+            if (seat == TableObservation.NO_SEAT) {
+                throw new IndexOutOfBoundsException("Player " + playerId + " is not seated");
+            }
+            return observation.getHandSizeAt(seat, index);
+        }
+
+        @Override
+        public boolean lacksColor(final Color color) {
+            final int seat = observation.getSeatOf(playerId);
+            return seat != TableObservation.NO_SEAT && observation.lacksColor(seat, color);
+        }
+
+        @Override
+        public boolean lacksValue(final Values value) {
+            final int seat = observation.getSeatOf(playerId);
+            return seat != TableObservation.NO_SEAT && observation.lacksValue(seat, value);
+        }
+
+        @Override
+        public int getUnknownCount() {
+            final int seat = observation.getSeatOf(playerId);
+            return seat == TableObservation.NO_SEAT ? 0
+                    : observation.getHandSize(seat) - observation.getConstrainedCount(seat);
+        }
+
+        @Override
+        public String toString() {
+            return "OpponentView[id=" + playerId + ", cards=" + getHandSize() + "]";
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+
+/**
+ * Read-only view of what a bot has inferred about an opponent from the public events of the table.
+ *
+ * <p>
+ * A view is bound to an opponent and always reflects the latest events: reading it copies nothing, and
+ * strategies can keep it across decisions. Before the opponent is seated every query answers as if nothing
+ * were known.
+ * </p>
+ */
+public interface OpponentView {
+
+    /**
+     * Retrieves the unique identifier of the opponent.
+     *
+     * @return the opponent's unique ID.
+     */
+    int getId();
+
+    /**
+     * Gets the number of cards currently held by the opponent.
+     *
+     * @return the count of cards in hand, 0 if the opponent is not seated.
+     */
+    int getHandSize();
+
+    /**
+     * Gets the number of hand sizes recorded in the current game: the dealt hand and every later change.
+     *
+     * @return the length of the hand-size history.
+     */
+    int getHistoryLength();
+
+    /**
+     * Gets a past hand size of the opponent.
+     *
+     * @param index the position in the history, 0 being the dealt hand.
+     * @return the number of cards held after the given change.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    int getHandSizeAt(int index);
+
+    /**
+     * Checks whether the opponent held no card of a color the last time it drew instead of matching the top card.
+     * Only bots, which never draw while they can play, give that evidence: nothing is inferred about humans.
+     *
+     * @param color the color, {@link Color#BLACK} for Wild cards.
+     * @return {@code true} if the bot's draw showed the color missing, apart from the cards drawn since.
+     */
+    boolean lacksColor(Color color);
+
+    /**
+     * Checks whether the opponent held no card of a value the last time it drew instead of matching the top card.
+     * Only bots, which never draw while they can play, give that evidence: nothing is inferred about humans.
+     *
+     * @param value the value.
+     * @return {@code true} if the bot's draw showed the value missing, apart from the cards drawn since.
+     */
+    boolean lacksValue(Values value);
+
+    /**
+     * Gets how many of the held cards may escape {@link #lacksColor(Color)} and {@link #lacksValue(Values)}:
+     * the whole hand before any evidence, then at most the cards drawn since the evidence was collected, fewer
+     * once some of them may have been played.
+     *
+     * @return the number of cards the missing colors and values say nothing about.
+     */
+    int getUnknownCount();
+}
@@ -0,0 +1,501 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.core.TableListener;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.rules.PrecomputedValidator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * What a bot knows about its table: its own hand and the public information delivered by the table events.
+ *
+ * <p>
+ * The observation tracks the seats, the number of cards held by every player, the discard pile since the last
+ * refill with the copies it holds of every card, color and value, the direction of play and the pending malus.
+ * It also remembers, for every bot opponent, the cards it lacked the last time it drew instead of playing: bots
+ * never draw while they hold a playable card, so none of the cards it held then could be played (or, under a
+ * malus, used as a defense) on the top card, and neither could the colors and values all of whose cards would
+ * have matched. Those cards stay constrained until they may have been played: the constraint covers one card
+ * less after every card the opponent plays. Humans may draw by choice, so their draws say nothing about their
+ * hands. The cards matching every possible top card are precomputed when the event changes, so every event is
+ * handled in constant time. The observation also records the history of every hand size.
+ * </p>
+ *
+ * <p>
+ * Cards are identified by the ID they are held as in the {@link CardTable} of the event: Wild cards of any
+ * declared color count as the Wild card itself. Updates happen on the game thread; the observation can be read
+ * by several threads while no event is delivered, e.g. during a search.
+ * </p>
+ */
+public final class TableObservation implements TableListener {
+
+    /**
+     * Value returned for players that are not seated at the observed table.
+     */
+    public static final int NO_SEAT = -1;
+
+    private static final int INITIAL_PILE = 32;
+    private static final int INITIAL_HISTORY = 32;
+
+    private final int playerId;
+    private final List<Card> hand;
+
+    // Cards of the current event, shared by every observation of that event
+    private EventIndex index;
+
+    private int[] seats = new int[0];
+    private int[] handSizes = new int[0];
+    private int seatCount;
+    private int[] pile = new int[INITIAL_PILE];
+    private int pileSize;
+    // Copies of each held ID, color and value on the discard pile
+    private int[] pileCounts = new int[0];
+    private final int[] pileColorCounts = new int[Color.values().length];
+    private final int[] pileValueCounts = new int[Values.values().length];
+    private boolean clockwise = true;
+    private int malus;
+
+    // For every seat: whether its draws are evidence, how many held cards are constrained and the evidence
+    // excluding cards from them
+    private boolean[] bots = new boolean[0];
+    private int[] constrained = new int[0];
+    private int[] evidence = new int[0];
+    // For every seat: the hand size after the deal and after every later change
+    private int[][] history = new int[0][];
+    private int[] historyLength = new int[0];
+
+    /**
+     * Creates the observation of a bot.
+     *
+     * @param playerId the ID of the observing bot
+     * @param hand     the live view of the bot's hand
+     * @throws NullPointerException if hand is null
+     */
+    public TableObservation(final int playerId, final List<Card> hand) {
+        this.playerId = playerId;
+        this.hand = Objects.requireNonNull(hand, "Hand cannot be null");
+    }
+
+    /**
+     * Checks whether the start of the current game has been observed, so that the other queries are meaningful.
+     *
+     * @return {@code true} if a game is being observed and the observing bot is seated in it
+     */
+    public boolean isReady() {
+        return index != null && getSeatOf(playerId) != NO_SEAT;
+    }
+
+    /**
+     * Returns the ID of the observing bot.
+     *
+     * @return the player ID
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Returns the current hand of the observing bot.
+     *
+     * @return the live, read-only view of the hand
+     */
+    public List<Card> getHand() {
+        return hand;
+    }
+
+    /**
+     * Returns the rules of the cards of the current game.
+     *
+     * @return the compatibility tables of the event's deck, or {@code null} before the first game
+     */
+    public PrecomputedValidator getRules() {
+        return index == null ? null : index.getRules();
+    }
+
+    /**
+     * Returns the number of seats of the current game.
+     *
+     * @return the number of players
+     */
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    /**
+     * Returns the seat of a player.
+     *
+     * @param id the ID of the player
+     * @return the seat, in turn order, or {@link #NO_SEAT} if the player is not seated
+     */
+    public int getSeatOf(final int id) {
+        for (int seat = 0; seat < seatCount; seat++) {
+            if (seats[seat] == id) {
+                return seat;
+            }
+        }
+        return NO_SEAT;
+    }
+
+    /**
+     * Returns the player sitting on a seat.
+     *
+     * @param seat the seat
+     * @return the ID of the player
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    public int getPlayerAt(final int seat) {
+        return seats[Objects.checkIndex(seat, seatCount)];
+    }
+
+    /**
+     * Returns the number of cards held by the player on a seat.
+     *
+     * @param seat the seat
+     * @return the size of the player's hand
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    public int getHandSize(final int seat) {
+        return handSizes[Objects.checkIndex(seat, seatCount)];
+    }
+
+    /**
+     * Returns the number of cards on the discard pile since the last refill.
+     *
+     * @return the size of the discard pile, top card included
+     */
+    public int getPileSize() {
+        return pileSize;
+    }
+
+    /**
+     * Returns a card of the discard pile.
+     *
+     * @param position the position, 0 being the bottom and {@code getPileSize() - 1} the top card
+     * @return the ID of the card, with the declared color for Wild cards
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public int getPileCard(final int position) {
+        return pile[Objects.checkIndex(position, pileSize)];
+    }
+
+    /**
+     * Returns the direction of play.
+     *
+     * @return {@code true} if turns follow the seat order
+     */
+    public boolean isClockwise() {
+        return clockwise;
+    }
+
+    /**
+     * Returns the number of cards pending because of a malus chain.
+     *
+     * @return the pending malus, 0 if none
+     */
+    public int getMalus() {
+        return malus;
+    }
+
+    /**
+     * Returns the ID a card is held as: the Wild card itself for Wild cards of any color, the card otherwise.
+     *
+     * @param id the ID of a card of the current event
+     * @return the ID of the held card
+     * @throws IndexOutOfBoundsException if the ID is not part of the event's cards
+     */
+    public int holdIdOf(final int id) {
+        return index.holdIdOf(Objects.checkIndex(id, cardCount()));
+    }
+
+    /**
+     * Returns how many copies of a card the deck of the current event contains.
+     *
+     * @param holdId the held ID of the card
+     * @return the number of copies in the full deck
+     * @throws IndexOutOfBoundsException if the ID is not part of the event's cards
+     */
+    public int getDeckCount(final int holdId) {
+        return index.getDeckCount(Objects.checkIndex(holdId, cardCount()));
+    }
+
+    /**
+     * Returns how many cards of a color the deck of the current event contains.
+     *
+     * @param color the color, {@link Color#BLACK} for Wild cards
+     * @return the number of cards of that color in the full deck
+     * @throws NullPointerException if color is null
+     */
+    public int getDeckCount(final Color color) {
+        Objects.requireNonNull(color, "Color cannot be null");
+        return index == null ? 0 : index.getDeckCount(color);
+    }
+
+    /**
+     * Returns how many cards of a value the deck of the current event contains.
+     *
+     * @param value the value
+     * @return the number of cards of that value in the full deck
+     * @throws NullPointerException if value is null
+     */
+    public int getDeckCount(final Values value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return index == null ? 0 : index.getDeckCount(value);
+    }
+
+    /**
+     * Returns the number of cards of the deck of the current event.
+     *
+     * @return the size of the full deck, 0 before the first game
+     */
+    public int getDeckSize() {
+        return index == null ? 0 : index.getDeckSize();
+    }
+
+    /**
+     * Returns how many copies of a card are on the discard pile since the last refill.
+     *
+     * @param holdId the held ID of the card
+     * @return the number of copies on the discard pile, top card included
+     * @throws IndexOutOfBoundsException if the ID is not part of the event's cards
+     */
+    public int getPileCount(final int holdId) {
+        return pileCounts[Objects.checkIndex(holdId, pileCounts.length)];
+    }
+
+    /**
+     * Returns how many cards of a color are on the discard pile since the last refill.
+     *
+     * @param color the color, {@link Color#BLACK} for Wild cards of any declared color
+     * @return the number of cards of that color on the discard pile, top card included
+     * @throws NullPointerException if color is null
+     */
+    public int getPileCount(final Color color) {
+        return pileColorCounts[Objects.requireNonNull(color, "Color cannot be null").ordinal()];
+    }
+
+    /**
+     * Returns how many cards of a value are on the discard pile since the last refill.
+     *
+     * @param value the value
+     * @return the number of cards of that value on the discard pile, top card included
+     * @throws NullPointerException if value is null
+     */
+    public int getPileCount(final Values value) {
+        return pileValueCounts[Objects.requireNonNull(value, "Value cannot be null").ordinal()];
+    }
+
+    /**
+     * Returns how many of the cards held on a seat are known to avoid the cards reported by
+     * {@link #isExcluded(int, int)}.
+     *
+     * @param seat the seat
+     * @return the number of constrained cards, 0 if nothing is known
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    public int getConstrainedCount(final int seat) {
+        return constrained[Objects.checkIndex(seat, seatCount)];
+    }
+
+    /**
+     * Checks whether the constrained cards of a seat cannot be of a color, because every card of that color is
+     * excluded by {@link #isExcluded(int, int)}.
+     *
+     * @param seat  the seat
+     * @param color the color, {@link Color#BLACK} for Wild cards
+     * @return {@code true} if some cards are constrained and none of them can be of the color
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     * @throws NullPointerException      if color is null
+     */
+    public boolean lacksColor(final int seat, final Color color) {
+        return constrained[Objects.checkIndex(seat, seatCount)] > 0
+                && (index.colorsLacked(evidence[seat])
+                & EventIndex.bit(Objects.requireNonNull(color, "Color cannot be null"))) != 0;
+    }
+
+    /**
+     * Checks whether the constrained cards of a seat cannot be of a value, because every card of that value is
+     * excluded by {@link #isExcluded(int, int)}.
+     *
+     * @param seat  the seat
+     * @param value the value
+     * @return {@code true} if some cards are constrained and none of them can be of the value
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     * @throws NullPointerException      if value is null
+     */
+    public boolean lacksValue(final int seat, final Values value) {
+        return constrained[Objects.checkIndex(seat, seatCount)] > 0
+                && (index.valuesLacked(evidence[seat])
+                & EventIndex.bit(Objects.requireNonNull(value, "Value cannot be null"))) != 0;
+    }
+
+    /**
+     * Returns the number of hand sizes recorded on a seat in the current game: the dealt hand and every later
+     * change.
+     *
+     * @param seat the seat
+     * @return the length of the hand-size history
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    public int getHistoryLength(final int seat) {
+        return historyLength[Objects.checkIndex(seat, seatCount)];
+    }
+
+    /**
+     * Returns a past hand size of the player on a seat.
+     *
+     * @param seat  the seat
+     * @param index the position in the history, 0 being the dealt hand
+     * @return the number of cards held after the given change
+     * @throws IndexOutOfBoundsException if the seat or the index is out of range
+     */
+    public int getHandSizeAt(final int seat, final int index) {
+        return history[Objects.checkIndex(seat, seatCount)][Objects.checkIndex(index, historyLength[seat])];
+    }
+
+    /**
+     * Checks whether the constrained cards of a seat cannot be copies of the given card.
+     *
+     * @param seat   the seat
+     * @param holdId the held ID of the card
+     * @return {@code true} if the constrained cards of the seat exclude the card
+     * @throws IndexOutOfBoundsException if the seat or the ID is out of range
+     */
+    public boolean isExcluded(final int seat, final int holdId) {
+        final int row = evidence[Objects.checkIndex(seat, seatCount)];
+        return row != EventIndex.NO_EVIDENCE && index.matches(row, Objects.checkIndex(holdId, index.size()));
+    }
+
+    @Override
+    public void onGameStarted(final GameEvent event, final Card startCard) {
+        final EventIndex eventIndex = EventIndex.forEvent(event);
+        if (eventIndex != index) {
+            index = eventIndex;
+            pileCounts = new int[index.size()];
+        }
+        seatCount = 0;
+        pileSize = 0;
+        Arrays.fill(pileCounts, 0);
+        Arrays.fill(pileColorCounts, 0);
+        Arrays.fill(pileValueCounts, 0);
+        pushPile(startCard);
+        clockwise = true;
+        malus = 0;
+    }
+
+    @Override
+    public void onPlayerSeated(final int id, final int cardCount, final boolean isBot) {
+        if (seatCount == seats.length) {
+            seats = Arrays.copyOf(seats, seatCount + 1);
+            handSizes = Arrays.copyOf(handSizes, seatCount + 1);
+            bots = Arrays.copyOf(bots, seatCount + 1);
+            constrained = Arrays.copyOf(constrained, seatCount + 1);
+            evidence = Arrays.copyOf(evidence, seatCount + 1);
+            history = Arrays.copyOf(history, seatCount + 1);
+            history[seatCount] = new int[INITIAL_HISTORY];
+            historyLength = Arrays.copyOf(historyLength, seatCount + 1);
+        }
+        seats[seatCount] = id;
+        handSizes[seatCount] = cardCount;
+        bots[seatCount] = isBot;
+        constrained[seatCount] = 0;
+        evidence[seatCount] = EventIndex.NO_EVIDENCE;
+        historyLength[seatCount] = 0;
+        record(seatCount);
+        seatCount++;
+    }
+
+    @Override
+    public void onCardPlayed(final int id, final Card card) {
+        final int seat = getSeatOf(id);
+        if (seat != NO_SEAT) {
+            handSizes[seat]--;
+            record(seat);
+            // The card played may have been one of the constrained ones
+            constrained[seat] = Math.max(0, constrained[seat] - 1);
+        }
+        pushPile(card);
+    }
+
+    @Override
+    public void onCardsDrawn(final int id, final int count) {
+        final int seat = getSeatOf(id);
+        if (seat == NO_SEAT) {
+            return;
+        }
+        if (id != playerId && bots[seat] && pileSize > 0 && isIndexed(pile[pileSize - 1])) {
+            // A bot drawing instead of playing: no held card matched the top card
+            evidence[seat] = EventIndex.evidenceOf(pile[pileSize - 1], malus > 0);
+            constrained[seat] = handSizes[seat];
+        }
+        handSizes[seat] += count;
+        record(seat);
+    }
+
+    @Override
+    public void onDirectionReversed(final int id) {
+        clockwise = !clockwise;
+    }
+
+    @Override
+    public void onMalusAccumulated(final int id, final int totalAmount) {
+        malus = totalAmount;
+    }
+
+    @Override
+    public void onMalusResolved(final int id, final int amount) {
+        malus = 0;
+    }
+
+    @Override
+    public void onDeckRefilled(final int cardCount) {
+        // Only the top card stays on the discard pile
+        for (int i = 0; i < pileSize - 1; i++) {
+            count(pile[i], -1);
+        }
+        if (pileSize > 0) {
+            pile[0] = pile[pileSize - 1];
+            pileSize = 1;
+        }
+    }
+
+    private void record(final int seat) {
+        if (historyLength[seat] == history[seat].length) {
+            history[seat] = Arrays.copyOf(history[seat], history[seat].length * 2);
+        }
+        history[seat][historyLength[seat]++] = handSizes[seat];
+    }
+
+    private int cardCount() {
+        return index == null ? 0 : index.size();
+    }
+
+    private boolean isIndexed(final int id) {
+        return id >= 0 && id < cardCount();
+    }
+
+    private void pushPile(final Card card) {
+        if (pileSize == pile.length) {
+            pile = Arrays.copyOf(pile, pile.length * 2);
+        }
+        pile[pileSize++] = card.getId();
+        count(card.getId(), 1);
+    }
+
+    /**
+     * Updates the pile counts of a card, ignoring cards that do not belong to the event's deck.
+     */
+    private void count(final int id, final int copies) {
+        if (isIndexed(id)) {
+            final Card held = index.getRules().getTable().get(index.holdIdOf(id));
+            pileCounts[held.getId()] += copies;
+            pileColorCounts[held.getColor().ordinal()] += copies;
+            pileValueCounts[held.getValue().ordinal()] += copies;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+import com.primus.model.player.Hand;
+
+import java.util.Objects;
+
+/**
+ * Card counting for a bot: how many cards of each color, value and ID it has not seen yet.
+ *
+ * <p>
+ * A card is unseen while it is in the deck or in an opponent's hand, i.e. it is part of the event's deck but it
+ * is neither on the discard pile nor in the bot's hand. The tracker keeps no state of its own: the deck and the
+ * discard pile since the last refill are read from the counts kept by the {@link TableObservation} of the bot,
+ * and its hand from the counts kept by {@link Hand}, so every query takes constant time.
+ * </p>
+ *
+ * <p>
+ * Wild cards are counted as they are held: a Wild card played with a declared color is a {@link Color#BLACK}
+ * card. Updates happen on the game thread, where the tracker is meant to be read too.
+ * </p>
+ */
+public final class UnseenCardTracker {
+
+    private final TableObservation observation;
+    private final Hand hand;
+
+    /**
+     * Creates the tracker of a bot.
+     *
+     * @param observation the observation of the bot's table, which must receive the table events
+     * @param hand        the hand of the bot
+     * @throws NullPointerException if observation or hand is null
+     */
+    public UnseenCardTracker(final TableObservation observation, final Hand hand) {
+        this.observation = Objects.requireNonNull(observation, "Observation cannot be null");
+        this.hand = Objects.requireNonNull(hand, "Hand cannot be null");
+    }
+
+    /**
+     * Checks whether the start of a game has been observed, so that the counts are meaningful.
+     *
+     * @return {@code true} if a game is being tracked
+     */
+    public boolean isReady() {
+        return observation.getRules() != null;
+    }
+
+    /**
+     * Returns how many cards of a color the bot has not seen.
+     *
+     * @param color the color, {@link Color#BLACK} for Wild cards
+     * @return the number of unseen cards of that color, 0 before the first game
+     * @throws NullPointerException if color is null
+     */
+    public int getUnseenCount(final Color color) {
+        Objects.requireNonNull(color, "Color cannot be null");
+        return isReady()
+                ? observation.getDeckCount(color) - observation.getPileCount(color) - hand.countOf(color) : 0;
+    }
+
+    /**
+     * Returns how many cards of a value the bot has not seen.
+     *
+     * @param value the value
+     * @return the number of unseen cards of that value, 0 before the first game
+     * @throws NullPointerException if value is null
+     */
+    public int getUnseenCount(final Values value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return isReady()
+                ? observation.getDeckCount(value) - observation.getPileCount(value) - hand.countOf(value) : 0;
+    }
+
+    /**
+     * Returns how many copies of a card the bot has not seen. Wild cards of any declared color count as the Wild
+     * card itself.
+     *
+     * @param card the card, interned in the table of the current event
+     * @return the number of unseen copies, 0 if the card is not part of the event's deck
+     * @throws NullPointerException if card is null
+     */
+    public int getUnseenCount(final Card card) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        if (!isReady()) {
+            return 0;
+        }
+        final CardTable table = observation.getRules().getTable();
+        final int id = card.getId();
+        if (id < 0 || id >= table.size() || table.get(id) != card) {
+            return 0;
+        }
+        final int holdId = observation.holdIdOf(id);
+        return observation.getDeckCount(holdId) - observation.getPileCount(holdId) - hand.countOf(table.get(holdId));
+    }
+
+    /**
+     * Returns how many cards the bot has not seen, that is the deck and the hands of the opponents.
+     *
+     * @return the number of unseen cards, 0 before the first game
+     */
+    public int getUnseenTotal() {
+        return isReady() ? observation.getDeckSize() - observation.getPileSize() - hand.size() : 0;
+    }
+}
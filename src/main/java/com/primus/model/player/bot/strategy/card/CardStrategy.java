@@ -14,7 +14,8 @@ public interface CardStrategy {
     /**
      * Chooses a card from possibleCards.
      *
-     * @param possibleCards the list of cards that can be played based on hand minus rejected cards.
+     * @param possibleCards the cards that can be played: the legal moves when the game provides them,
+     *                      otherwise the hand minus the rejected cards.
      * @return an {@link Optional} containing the card to play,
      *      or {@code Optional.empty()} if the strategy decides to pass the turn (no valid moves).
      */
@@ -4,11 +4,11 @@ import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
 import com.primus.model.deck.Values;
 import com.primus.model.player.bot.OpponentInfo;
+import com.primus.model.player.bot.OpponentView;
+import com.primus.model.player.bot.UnseenCardTracker;
 
-import java.util.Comparator;
-import java.util.EnumMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -16,6 +16,11 @@ import java.util.Optional;
  * An advanced implementation of {@link CardStrategy} representing a "cheater" personality.
  * This strategy has access to an opponent's information via {@link OpponentInfo},
  * allowing it to make decisions based on the opponent's current hand.
+ * Alternatively it can play fair through an {@link OpponentView}: the victim is then assumed to hold
+ * its known cards evenly spread over the colors it does not lack, and its unknown cards over every color,
+ * and to hold a value with the chance that one of the cards that may be of that value is, given the cards
+ * of that value the bot has not seen. A penalty is avoided when the victim more likely than not can defend.
+ * The analysis is kept in arrays reused by every decision.
  */
 public final class CheaterStrategy implements CardStrategy {
     private static final long SCORE_SKIP_REVERSE = 10L;
@@ -23,7 +28,15 @@ public final class CheaterStrategy implements CardStrategy {
     private static final long SCORE_WILD = 25L;
     private static final long SCORE_DEFENDABLE_MOVE = -1_000_000L;
     private static final long SCORE_NORMAL_CARD = 1L;
-    private final OpponentInfo victim;
+    private static final double DEFENSE_LIKELY = 0.5;
+    private static final Color[] COLORS = Arrays.stream(Color.values())
+            .filter(color -> !Color.isBlack(color))
+            .toArray(Color[]::new);
+    private final Runnable analysis;
+    private final int[] victimColors = new int[Color.values().length];
+    // Chance that the victim holds a card of each value
+    private final double[] victimValues = new double[Values.values().length];
+    private int victimCards;
 
     /**
      * Constructs a CheaterStrategy targeting a specific opponent.
@@ -33,7 +46,20 @@ public final class CheaterStrategy implements CardStrategy {
      */
     public CheaterStrategy(final OpponentInfo victim) {
         Objects.requireNonNull(victim, "Victim info cannot be null");
-        this.victim = victim;
+        this.analysis = () -> analyzeVictimHand(victim);
+    }
+
+    /**
+     * Constructs a CheaterStrategy targeting a specific opponent without looking at its hand.
+     *
+     * @param victim the {@link OpponentView} of what is known about the opponent to target.
+     * @param unseen the {@link UnseenCardTracker} of the bot, counting the cards the victim may hold.
+     * @throws NullPointerException if {@code victim} or {@code unseen} is {@code null}.
+     */
+    public CheaterStrategy(final OpponentView victim, final UnseenCardTracker unseen) {
+        Objects.requireNonNull(victim, "Victim view cannot be null");
+        Objects.requireNonNull(unseen, "Unseen card tracker cannot be null");
+        this.analysis = () -> estimateVictimHand(victim, unseen);
     }
 
     /**
@@ -46,74 +72,107 @@ public final class CheaterStrategy implements CardStrategy {
     @Override
     public Optional<Card> chooseCard(final List<Card> possibleCards) {
         Objects.requireNonNull(possibleCards);
-        final VictimAnalysis victimAnalysis = analyzeVictimHand();
-        return possibleCards.stream()
-                .max(Comparator.comparingLong(card -> calculateScore(card, victimAnalysis)));
+        analysis.run();
+        Card best = null;
+        long bestScore = Long.MIN_VALUE;
+        for (final Card card : possibleCards) {
+            final long score = calculateScore(card);
+            if (best == null || score > bestScore) {
+                best = card;
+                bestScore = score;
+            }
+        }
+        return Optional.ofNullable(best);
     }
 
-    private long calculateScore(final Card card, final VictimAnalysis victimAnalysis) {
+    private long calculateScore(final Card card) {
         if (card.isNativeBlack()) {
-            return calculateBlackCardScore(card, victimAnalysis);
+            return calculateBlackCardScore(card);
         }
         if (card.getValue() == Values.DRAW_TWO) {
-            return calculateDrawTwoScore(victimAnalysis);
+            return calculateDrawTwoScore();
         }
         if (card.getValue() == Values.SKIP || card.getValue() == Values.REVERSE) {
             return SCORE_SKIP_REVERSE;
         }
-        return calculateColorCardScore(card, victimAnalysis);
+        return calculateColorCardScore(card);
     }
 
-    private long calculateBlackCardScore(final Card card, final VictimAnalysis victimAnalysis) {
+    private long calculateBlackCardScore(final Card card) {
         if (card.getValue() == Values.WILD_DRAW_FOUR) {
-            if (victimAnalysis.hasCard(Values.WILD_DRAW_FOUR)) {
+            if (hasCard(Values.WILD_DRAW_FOUR)) {
                 return SCORE_DEFENDABLE_MOVE;
             }
-            return SCORE_WILD * calculateUrgencyMultiplier(victimAnalysis);
+            return SCORE_WILD * calculateUrgencyMultiplier();
         }
         return SCORE_WILD;
     }
 
-    private long calculateDrawTwoScore(final VictimAnalysis victimAnalysis) {
-        if (victimAnalysis.hasCard(Values.DRAW_TWO)) {
+    private long calculateDrawTwoScore() {
+        if (hasCard(Values.DRAW_TWO)) {
             return SCORE_DEFENDABLE_MOVE;
         }
-        return SCORE_DRAW_TWO * calculateUrgencyMultiplier(victimAnalysis);
+        return SCORE_DRAW_TWO * calculateUrgencyMultiplier();
+    }
+
+    private long calculateUrgencyMultiplier() {
+        return Math.max(1, 10 - victimCards);
     }
 
-    private long calculateUrgencyMultiplier(final VictimAnalysis victimAnalysis) {
-        return Math.max(1, 10 - victimAnalysis.totalCards());
+    private long calculateColorCardScore(final Card card) {
+        final int victimColorCount = victimColors[card.getColor().ordinal()];
+        return Math.max(0, SCORE_NORMAL_CARD * (victimCards - victimColorCount));
     }
 
-    private long calculateColorCardScore(final Card card, final VictimAnalysis victimAnalysis) {
-        final int victimColorCount = victimAnalysis.getColorCount(card.getColor());
-        return Math.max(0, SCORE_NORMAL_CARD * (victimAnalysis.totalCards() - victimColorCount));
+    private boolean hasCard(final Values value) {
+        return victimValues[value.ordinal()] >= DEFENSE_LIKELY;
     }
 
-    private VictimAnalysis analyzeVictimHand() {
-        final List<Card> hand = victim.getHand();
-        final Map<Color, Integer> colorMap = new EnumMap<>(Color.class);
-        final Map<Values, Integer> valuesMap = new EnumMap<>(Values.class);
-        for (final Card card : hand) {
+    private void analyzeVictimHand(final OpponentInfo victim) {
+        Arrays.fill(victimColors, 0);
+        Arrays.fill(victimValues, 0);
+        for (final Card card : victim.getHand()) {
             if (!card.isNativeBlack()) {
-                colorMap.put(card.getColor(), colorMap.getOrDefault(card.getColor(), 0) + 1);
+                victimColors[card.getColor().ordinal()]++;
             }
-            valuesMap.put(card.getValue(), valuesMap.getOrDefault(card.getValue(), 0) + 1);
+            victimValues[card.getValue().ordinal()] = 1;
         }
-        return new VictimAnalysis(colorMap, valuesMap, victim.getCardCount());
+        victimCards = victim.getCardCount();
     }
 
-    private record VictimAnalysis(
-            Map<Color, Integer> colorCount,
-            Map<Values, Integer> cardCount,
-            int totalCards
-    ) {
-        boolean hasCard(final Values value) {
-            return cardCount.containsKey(value);
+    private void estimateVictimHand(final OpponentView victim, final UnseenCardTracker unseen) {
+        victimCards = victim.getHandSize();
+        final int unknown = victim.getUnknownCount();
+        int available = 0;
+        for (final Color color : COLORS) {
+            if (!victim.lacksColor(color)) {
+                available++;
+            }
+        }
+        for (final Color color : COLORS) {
+            final int known = victim.lacksColor(color) || available == 0 ? 0 : (victimCards - unknown) / available;
+            victimColors[color.ordinal()] = known + unknown / COLORS.length;
+        }
+        // Any card of the hand may be of a value, or only the unknown ones if the victim lacks it
+        final int total = unseen.getUnseenTotal();
+        for (final Values value : Values.values()) {
+            final int candidates = victim.lacksValue(value) ? unknown : victimCards;
+            victimValues[value.ordinal()] = chanceOfAny(unseen.getUnseenCount(value), total, candidates);
         }
+    }
 
-        int getColorCount(final Color color) {
-            return colorCount.getOrDefault(color, 0);
+    /**
+     * Computes the chance that drawing cards without replacement among the unseen ones yields at least one of
+     * the given copies.
+     */
+    private static double chanceOfAny(final int copies, final int total, final int draws) {
+        if (copies <= 0) {
+            return 0;
+        }
+        double none = 1;
+        for (int i = 0; i < Math.min(draws, total); i++) {
+            none *= (double) Math.max(0, total - copies - i) / (total - i);
         }
+        return 1 - none;
     }
 }
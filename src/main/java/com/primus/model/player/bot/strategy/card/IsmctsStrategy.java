@@ -0,0 +1,372 @@
+package com.primus.model.player.bot.strategy.card;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.player.bot.DeterminizationSampler;
+import com.primus.model.player.bot.TableObservation;
+import com.primus.model.rules.PrecomputedValidator;
+import com.primus.model.search.SearchState;
+import com.primus.utils.SearchBudget;
+import com.primus.utils.SearchStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A {@link CardStrategy} choosing cards with an Information Set Monte Carlo Tree Search (ISMCTS).
+ *
+ * <p>
+ * The strategy reads the {@link TableObservation} of its bot, i.e. its hand and the public information of the
+ * table. On every iteration of a search a {@link DeterminizationSampler} deals the cards the bot cannot see to
+ * the opponents and to the deck, consistently with what the opponents revealed, and the moves of every seat are
+ * explored in a single tree, where each child is rated against the number of times it was available. The most
+ * visited card of the bot is played. Like the rollouts, the tree lets a seat draw only when it cannot play, which
+ * is also what the observation assumes of the opponents.
+ * </p>
+ *
+ * <p>
+ * Iterations run on the threads of the {@link ForkJoinPool#commonPool()} as given by the {@link SearchBudget}:
+ * each thread grows its own tree on its own {@link SearchState}, reused across decisions, and the visits of the
+ * root moves are summed at the end. With a budget bounded only by iterations the decisions depend only on the
+ * generator given to the constructor and on the parallelism of the budget, i.e. the number of trees, whatever
+ * the number of threads of the pool running them. The color of the Wild card chosen by the last search is available through
+ * {@link #getChosenColor()}. When the start of the game has not been observed the strategy falls back to an
+ * {@link AggressiveStrategy}.
+ * </p>
+ *
+ * <p>
+ * Instances belong to a single bot and are not thread-safe.
+ * </p>
+ */
+public final class IsmctsStrategy implements CardStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IsmctsStrategy.class);
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_ROLLOUT_DEPTH = 500;
+    private static final int NO_SEAT = -1;
+
+    private final TableObservation observation;
+    private final SearchBudget budget;
+    private final SplittableRandom random;
+    private final CardStrategy fallback = new AggressiveStrategy();
+
+    // Search buffers, reused until the event or the number of seats changes
+    private PrecomputedValidator rules;
+    private Worker[] workers = new Worker[0];
+    private int[] rootMoves = new int[0];
+    private long[] visits = new long[0];
+    private Color chosenColor;
+
+    private long decisions;
+    private long rollouts;
+    private long elapsedNanos;
+
+    /**
+     * Creates the strategy of a bot.
+     *
+     * @param observation the observation of the table kept up to date by the bot using the strategy
+     * @param budget      the resources spent on each decision
+     * @param random      the generator every random choice of the search is split from
+     * @throws NullPointerException if any argument is null
+     */
+    public IsmctsStrategy(final TableObservation observation, final SearchBudget budget,
+                          final SplittableRandom random) {
+        this.observation = Objects.requireNonNull(observation, "Observation cannot be null");
+        this.budget = Objects.requireNonNull(budget, "Search budget cannot be null");
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     * The most visited card is chosen; the bot draws only when no card can be played.
+     *
+     * @throws NullPointerException if {@code possibleCards} is {@code null}.
+     */
+    @Override
+    public Optional<Card> chooseCard(final List<Card> possibleCards) {
+        Objects.requireNonNull(possibleCards);
+        chosenColor = null;
+        if (possibleCards.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!prepareWorkers()) {
+            LOGGER.debug("Bot {} cannot search this position, using {}", observation.getPlayerId(), fallback);
+            return fallback.chooseCard(possibleCards);
+        }
+
+        final int moveCount = workers[0].sampler.getRoot().legalMoves(rootMoves);
+        if (moveCount == 1) {
+            // Only drawing is possible
+            return Optional.empty();
+        }
+        final long start = System.nanoTime();
+        search();
+        elapsedNanos += System.nanoTime() - start;
+        decisions++;
+
+        int bestMove = SearchState.DRAW;
+        long bestVisits = -1;
+        Card bestCard = null;
+        // The first legal move is drawing, never explored while a card can be played
+        for (int i = 1; i < moveCount; i++) {
+            final int move = rootMoves[i];
+            final Card candidate = candidateOf(possibleCards, move);
+            if (candidate != null && visits[move + 1] > bestVisits) {
+                bestMove = move;
+                bestVisits = visits[move + 1];
+                bestCard = candidate;
+            }
+        }
+        LOGGER.debug("Bot {} searched {} moves, best {} with {} visits",
+                observation.getPlayerId(), moveCount, bestMove, bestVisits);
+        if (bestCard == null) {
+            return Optional.empty();
+        }
+        if (bestCard.isNativeBlack()) {
+            chosenColor = rules.getTable().get(bestMove).getColor();
+        }
+        return Optional.of(bestCard);
+    }
+
+    /**
+     * Returns the color the last search chose for the Wild card it selected.
+     *
+     * @return the declared color, or empty if the last decision did not select a Wild card through a search
+     */
+    public Optional<Color> getChosenColor() {
+        return Optional.ofNullable(chosenColor);
+    }
+
+    /**
+     * Returns the work done by the searches of this strategy since its creation.
+     *
+     * @return the number of decisions searched, rollouts played and time spent
+     */
+    public SearchStats getStats() {
+        return new SearchStats(decisions, rollouts, elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+
+    /**
+     * Creates the workers of the budget for the observed game and prepares their samplers.
+     *
+     * @return {@code false} if the observed position cannot be sampled
+     */
+    private boolean prepareWorkers() {
+        if (!observation.isReady()) {
+            return false;
+        }
+        final int threads = Math.min(budget.parallelism(), budget.iterations());
+        final int seats = observation.getSeatCount();
+        if (rules != observation.getRules() || workers.length == 0 || workers[0].state.getPlayerCount() != seats) {
+            rules = observation.getRules();
+            workers = new Worker[0];
+        }
+        if (workers.length != threads) {
+            final Worker[] resized = Arrays.copyOf(workers, threads);
+            for (int i = workers.length; i < threads; i++) {
+                final SplittableRandom generator = random.split();
+                resized[i] = new Worker(new SearchState(rules, seats, generator.split()),
+                        new DeterminizationSampler(observation, generator.split()), generator);
+            }
+            workers = resized;
+            rootMoves = new int[workers[0].state.maxMoves()];
+            visits = new long[rootMoves.length];
+        }
+        for (final Worker worker : workers) {
+            if (!worker.sampler.prepare()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Card candidateOf(final List<Card> possibleCards, final int move) {
+        final int holdId = observation.holdIdOf(move);
+        for (final Card card : possibleCards) {
+            final int id = card.getId();
+            if (id >= 0 && id < rules.getTable().size() && observation.holdIdOf(id) == holdId) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs the iterations of the budget on the worker threads and sums the visits of the root moves.
+     */
+    private void search() {
+        final int threads = workers.length;
+        final long deadline = budget.hasTimeLimit() ? System.nanoTime() + budget.timeLimit().toNanos() : 0;
+        final int share = budget.iterations() / threads;
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[threads - 1];
+        for (int i = 1; i < threads; i++) {
+            final Worker worker = workers[i];
+            tasks[i - 1] = ForkJoinPool.commonPool().submit(() -> worker.search(share, deadline));
+        }
+        workers[0].search(budget.iterations() - share * (threads - 1), deadline);
+
+        Arrays.fill(visits, 0);
+        for (final ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        for (final Worker worker : workers) {
+            rollouts += worker.completed;
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += worker.rootVisits[i];
+            }
+        }
+    }
+
+    /**
+     * A node of the tree, reached by a move of the given seat.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final int move;
+        private final int seat;
+        private Node[] children;
+        private int visits;
+        private int availability;
+        private double wins;
+
+        private Node(final Node parent, final int move, final int seat) {
+            this.parent = parent;
+            this.move = move;
+            this.seat = seat;
+        }
+
+        private Node child(final int childMove) {
+            return children == null ? null : children[childMove + 1];
+        }
+
+        private Node expand(final int childMove, final int childSeat, final int maxMoves) {
+            if (children == null) {
+                children = new Node[maxMoves];
+            }
+            final Node child = new Node(this, childMove, childSeat);
+            children[childMove + 1] = child;
+            return child;
+        }
+
+        private double score() {
+            return wins / visits + EXPLORATION * Math.sqrt(Math.log(availability) / visits);
+        }
+    }
+
+    /**
+     * Runs iterations on its own position, dealing the unseen cards again before each of them.
+     */
+    private static final class Worker {
+        private final SearchState state;
+        private final DeterminizationSampler sampler;
+        private final SplittableRandom generator;
+        private final int[] moves;
+        private final int[] untried;
+        private final long[] rootVisits;
+        private long completed;
+
+        private Worker(final SearchState state, final DeterminizationSampler sampler,
+                       final SplittableRandom generator) {
+            this.state = state;
+            this.sampler = sampler;
+            this.generator = generator;
+            this.moves = new int[state.maxMoves()];
+            this.untried = new int[state.maxMoves()];
+            this.rootVisits = new long[state.maxMoves()];
+        }
+
+        private void search(final int iterations, final long deadline) {
+            final Node tree = new Node(null, SearchState.DRAW, NO_SEAT);
+            completed = 0;
+            for (int i = 0; i < iterations; i++) {
+                if (deadline != 0 && System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                sampler.sample(state);
+                iterate(tree);
+                completed++;
+            }
+            Arrays.fill(rootVisits, 0);
+            if (tree.children != null) {
+                for (final Node child : tree.children) {
+                    if (child != null) {
+                        rootVisits[child.move + 1] = child.visits;
+                    }
+                }
+            }
+        }
+
+        private void iterate(final Node tree) {
+            Node node = tree;
+            int count = state.legalMoves(moves);
+            // Selection: follow the best rated moves until one has never been tried in this information set
+            while (count > 0) {
+                int untriedCount = 0;
+                Node best = null;
+                // Drawing is only explored when no card can be played, as in the rollouts
+                for (int i = count > 1 ? 1 : 0; i < count; i++) {
+                    final Node child = node.child(moves[i]);
+                    if (child == null) {
+                        untried[untriedCount++] = moves[i];
+                    } else {
+                        child.availability++;
+                        if (best == null || child.score() > best.score()) {
+                            best = child;
+                        }
+                    }
+                }
+                if (untriedCount > 0) {
+                    // Expansion
+                    final int move = untried[generator.nextInt(untriedCount)];
+                    node = node.expand(move, state.getCurrentSeat(), moves.length);
+                    node.availability++;
+                    state.apply(move);
+                    break;
+                }
+                node = best;
+                state.apply(best.move);
+                count = state.legalMoves(moves);
+            }
+
+            // Rollout: play a random card when possible, draw otherwise
+            for (int depth = 0; !state.isTerminal() && depth < MAX_ROLLOUT_DEPTH; depth++) {
+                final int available = state.legalMoves(moves);
+                state.apply(available > 1 ? moves[1 + generator.nextInt(available - 1)] : SearchState.DRAW);
+            }
+            final int winner = state.isTerminal() ? state.getWinner() : leader();
+
+            // Backpropagation: every node is rated from the point of view of the seat that moved into it
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                if (n.seat == winner) {
+                    n.wins++;
+                }
+            }
+        }
+
+        /**
+         * Returns the seat with the fewest cards, used to score rollouts cut before the end of the game.
+         */
+        private int leader() {
+            int leader = 0;
+            for (int seat = 1; seat < state.getPlayerCount(); seat++) {
+                if (state.getHandSize(seat) < state.getHandSize(leader)) {
+                    leader = seat;
+                }
+            }
+            return leader;
+        }
+    }
+}
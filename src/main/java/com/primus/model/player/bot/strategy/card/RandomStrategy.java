@@ -5,7 +5,8 @@ import com.primus.model.deck.Card;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A strategy implementation for a bot that selects a card to play at random.
@@ -13,13 +14,23 @@ import java.util.Random;
  * and simply picks a card randomly from the provided list of possible cards.
  */
 public final class RandomStrategy implements CardStrategy {
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     /**
-     * Creates a new instance of the RandomStrategy.
+     * Creates a new instance of the RandomStrategy with an unseeded source of randomness.
      */
     public RandomStrategy() {
-        // Default constructor intentionally empty
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new instance of the RandomStrategy driven by the given generator.
+     *
+     * @param random the generator used to pick the cards, it must not be shared with other threads
+     * @throws NullPointerException if {@code random} is {@code null}.
+     */
+    public RandomStrategy(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.primus.model.player.bot.strategy.color;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.player.bot.strategy.card.IsmctsStrategy;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ColorStrategy} declaring the color the {@link IsmctsStrategy} of the same bot searched together
+ * with its Wild card. When the card was not chosen by a search, the most frequent color of the hand is declared.
+ */
+public final class IsmctsColorStrategy implements ColorStrategy {
+
+    private final IsmctsStrategy search;
+    private final ColorStrategy fallback = new MostFrequentColorStrategy();
+
+    /**
+     * Creates the color strategy paired with a card strategy.
+     *
+     * @param search the card strategy of the same bot
+     * @throws NullPointerException if {@code search} is {@code null}.
+     */
+    public IsmctsColorStrategy(final IsmctsStrategy search) {
+        this.search = Objects.requireNonNull(search, "Card strategy cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     if the hand list is null.
+     * @throws IllegalArgumentException if no color was searched and the hand list is empty.
+     */
+    @Override
+    public Color chooseColor(final List<Card> hand) {
+        Objects.requireNonNull(hand);
+        return search.getChosenColor().orElseGet(() -> fallback.chooseColor(hand));
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
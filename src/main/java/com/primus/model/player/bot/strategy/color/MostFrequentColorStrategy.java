@@ -2,6 +2,7 @@ package com.primus.model.player.bot.strategy.color;
 
 import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
+import com.primus.model.player.bot.UnseenCardTracker;
 
 import java.util.Comparator;
 import java.util.EnumMap;
@@ -12,14 +13,27 @@ import java.util.Objects;
 /**
  * A {@link ColorStrategy} implementation for choosing a color based on frequency.
  * This strategy analyzes the bot's hand and selects the color that appears
- * the most times.
+ * the most times. When it can count cards through an {@link UnseenCardTracker}, ties go to
+ * the color with the fewest cards still unseen, which the opponents are least likely to follow.
  */
 public final class MostFrequentColorStrategy implements ColorStrategy {
+    private final UnseenCardTracker tracker;
+
     /**
      * Creates a new instance of the MostFrequentColorStrategy.
      */
     public MostFrequentColorStrategy() {
-        // Default constructor intentionally empty
+        this.tracker = null;
+    }
+
+    /**
+     * Creates a new instance of the MostFrequentColorStrategy counting the cards seen by its bot.
+     *
+     * @param tracker the tracker of the unseen cards, fed by the same bot
+     * @throws NullPointerException if {@code tracker} is {@code null}.
+     */
+    public MostFrequentColorStrategy(final UnseenCardTracker tracker) {
+        this.tracker = Objects.requireNonNull(tracker, "Tracker cannot be null");
     }
 
     /**
@@ -29,6 +43,7 @@ public final class MostFrequentColorStrategy implements ColorStrategy {
      * 2. Counts occurrences of each color.
      * 3. Selects the color with the highest count.
      * 4. Defaults to {@link Color#RED} if the hand contains only Black cards.
+     * With a tracker, ties (all-Black hands included) go to the color with the fewest unseen cards.
      *
      * @throws NullPointerException     if the hand list is null.
      * @throws IllegalArgumentException if the hand list is empty.
@@ -45,6 +60,9 @@ public final class MostFrequentColorStrategy implements ColorStrategy {
                 map.put(card.getColor(), map.getOrDefault(card.getColor(), 0) + 1);
             }
         }
+        if (tracker != null && tracker.isReady()) {
+            return leastLiveAmongMostFrequent(map);
+        }
         final var chooseColor = map.entrySet().stream().max(Comparator.comparingInt(Map.Entry::getValue));
         // E.g. all cards are black means the color is not important
         if (chooseColor.isEmpty()) {
@@ -52,4 +70,20 @@ public final class MostFrequentColorStrategy implements ColorStrategy {
         }
         return chooseColor.get().getKey();
     }
+
+    private Color leastLiveAmongMostFrequent(final Map<Color, Integer> map) {
+        Color best = null;
+        for (final Color color : Color.values()) {
+            if (color == Color.BLACK) {
+                continue;
+            }
+            final int count = map.getOrDefault(color, 0);
+            final int bestCount = best == null ? -1 : map.getOrDefault(best, 0);
+            if (count > bestCount
+                    || (count == bestCount && tracker.getUnseenCount(color) < tracker.getUnseenCount(best))) {
+                best = color;
+            }
+        }
+        return best;
+    }
 }
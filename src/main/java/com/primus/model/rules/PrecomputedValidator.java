@@ -0,0 +1,173 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Validator} answering from compatibility tables precomputed for the cards of a {@link CardTable}.
+ *
+ * <p>
+ * For every pair of card IDs the table stores whether the second card can be played on the first one, and
+ * separately whether it is a valid defense against it. Both tables are derived once from the same rules
+ * applied by {@link ValidatorImpl}, so they follow the effects and draw amounts loaded from the deck file;
+ * validating a move then costs a single bit test. Cards that do not belong to the table, such as cards
+ * created outside of a deck, are checked with the standard rules instead.
+ * </p>
+ */
+@ThreadSafe
+public final class PrecomputedValidator implements Validator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecomputedValidator.class);
+    private static final Map<GameEvent, PrecomputedValidator> CACHE = new ConcurrentHashMap<>();
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+
+    private final CardTable table;
+    private final int words;
+    private final long[] compatible;
+    private final long[] defenses;
+
+    /**
+     * Builds the compatibility tables of the given cards.
+     *
+     * @param table the cards the tables are computed for
+     * @throws NullPointerException if the table is null
+     */
+    public PrecomputedValidator(final CardTable table) {
+        this.table = Objects.requireNonNull(table, "Card table cannot be null");
+        final int size = table.size();
+        this.words = (size + WORD_MASK) >>> WORD_SHIFT;
+        this.compatible = new long[size * words];
+        this.defenses = new long[size * words];
+        for (int top = 0; top < size; top++) {
+            final Card topCard = table.get(top);
+            for (int id = 0; id < size; id++) {
+                final Card card = table.get(id);
+                if (ValidatorImpl.matches(topCard, card)) {
+                    set(compatible, top, id);
+                }
+                if (ValidatorImpl.defends(topCard, card)) {
+                    set(defenses, top, id);
+                }
+            }
+        }
+        LOGGER.debug("Compatibility tables computed for {} distinct cards", size);
+    }
+
+    /**
+     * Returns the validator of the deck used by the given game event, computing it on first use.
+     *
+     * @param event the game event
+     * @return the shared validator of the event's deck
+     * @throws NullPointerException if the event is null
+     */
+    public static PrecomputedValidator forEvent(final GameEvent event) {
+        Objects.requireNonNull(event, "GameEvent cannot be null");
+        return CACHE.computeIfAbsent(event, e -> new PrecomputedValidator(DeckTemplate.forEvent(e).getTable()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public boolean isValidCard(final Card topCard, final Card toValidate) {
+        Objects.requireNonNull(toValidate, "Card to validate cannot be null");
+        Objects.requireNonNull(topCard, "Top card cannot be null");
+        return isInTable(topCard) && isInTable(toValidate)
+                ? test(compatible, topCard.getId(), toValidate.getId())
+                : ValidatorImpl.matches(topCard, toValidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public boolean isValidDefense(final Card topCard, final Card toValidate) {
+        Objects.requireNonNull(toValidate, "Defense card cannot be null");
+        Objects.requireNonNull(topCard, "Attack card cannot be null");
+        return isInTable(topCard) && isInTable(toValidate)
+                ? test(defenses, topCard.getId(), toValidate.getId())
+                : ValidatorImpl.defends(topCard, toValidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public BitSet legalMoves(final Card topCard, final List<Card> hand, final boolean isMalusActive) {
+        Objects.requireNonNull(topCard, "Top card cannot be null");
+        Objects.requireNonNull(hand, "Hand cannot be null");
+        final BitSet legal = new BitSet(hand.size());
+        for (int i = 0; i < hand.size(); i++) {
+            final Card card = Objects.requireNonNull(hand.get(i), "Card to validate cannot be null");
+            final boolean valid = isMalusActive ? isValidDefense(topCard, card) : isValidCard(topCard, card);
+            if (valid) {
+                legal.set(i);
+            }
+        }
+        return legal;
+    }
+
+    /**
+     * Checks by ID whether a card of the table can be played on another one in a standard game context.
+     *
+     * @param topId  the ID of the card on top of the discard pile
+     * @param cardId the ID of the card to play
+     * @return {@code true} if the move is valid
+     * @throws IndexOutOfBoundsException if an ID is not part of the table
+     */
+    public boolean canPlay(final int topId, final int cardId) {
+        return test(compatible, Objects.checkIndex(topId, table.size()), Objects.checkIndex(cardId, table.size()));
+    }
+
+    /**
+     * Checks by ID whether a card of the table is a valid defense against a penalty card.
+     *
+     * @param topId  the ID of the penalty card on top of the discard pile
+     * @param cardId the ID of the card to defend with
+     * @return {@code true} if the card is a valid defense
+     * @throws IndexOutOfBoundsException if an ID is not part of the table
+     */
+    public boolean canDefend(final int topId, final int cardId) {
+        return test(defenses, Objects.checkIndex(topId, table.size()), Objects.checkIndex(cardId, table.size()));
+    }
+
+    /**
+     * Returns the cards the compatibility tables are computed for.
+     *
+     * @return the card table of this validator
+     */
+    public CardTable getTable() {
+        return table;
+    }
+
+    private boolean isInTable(final Card card) {
+        final int id = card.getId();
+        return id >= 0 && id < table.size() && table.get(id) == card;
+    }
+
+    private void set(final long[] bits, final int top, final int id) {
+        bits[top * words + (id >>> WORD_SHIFT)] |= 1L << (id & WORD_MASK);
+    }
+
+    private boolean test(final long[] bits, final int top, final int id) {
+        return (bits[top * words + (id >>> WORD_SHIFT)] & 1L << (id & WORD_MASK)) != 0;
+    }
+}
@@ -51,7 +51,7 @@ public final class SanctionerImpl implements Sanctioner {
         Objects.requireNonNull(card);
         LOGGER.debug("Accumulating penalty for card: {} with {} to draw", card, card.getDrawAmount());
         malusAmount += card.getDrawAmount();
-        LOGGER.info("Penalty updated total cards to draw = {}", malusAmount);
+        LOGGER.debug("Penalty updated total cards to draw = {}", malusAmount);
     }
 
     /**
@@ -59,7 +59,7 @@ public final class SanctionerImpl implements Sanctioner {
      */
     @Override
     public void reset() {
-        LOGGER.info("Sanctioner reset. Penalty cleared (was {}).", malusAmount);
+        LOGGER.debug("Sanctioner reset. Penalty cleared (was {}).", malusAmount);
         this.malusAmount = 0;
     }
 
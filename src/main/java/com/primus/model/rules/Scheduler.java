@@ -30,6 +30,13 @@ public interface Scheduler {
      */
     int getCurrentPlayer();
 
+    /**
+     * Returns the direction of play.
+     *
+     * @return {@code true} if turns follow the order of {@link #getPlayersDisposition()}, {@code false} if reversed
+     */
+    boolean isClockwise();
+
     /**
      * Returns the disposition of players at the table as a list of player IDs. The order of the list represents the
      * seating arrangement around the table, this can be useful for visualization purposes in the
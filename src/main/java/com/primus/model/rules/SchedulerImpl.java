@@ -30,7 +30,7 @@ public final class SchedulerImpl implements Scheduler {
             throw new IllegalArgumentException("Zero players provided to Scheduler");
         }
         this.playersIDs = List.copyOf(playerIDs);
-        LOGGER.info("Scheduler initialized with {} players. Order: {}", playersIDs.size(), playersIDs);
+        LOGGER.debug("Scheduler initialized with {} players. Order: {}", playersIDs.size(), playersIDs);
     }
 
     @Override
@@ -39,6 +39,11 @@ public final class SchedulerImpl implements Scheduler {
         return currentIndex == -1 ? this.playersIDs.getFirst() : this.playersIDs.get(this.currentIndex);
     }
 
+    @Override
+    public boolean isClockwise() {
+        return isClockwise;
+    }
+
     @Override
     public List<Integer> getPlayersDisposition() {
         return List.copyOf(this.playersIDs);
@@ -53,13 +58,13 @@ public final class SchedulerImpl implements Scheduler {
 
     @Override
     public void reverseDirection() {
-        LOGGER.info("Game direction reversed. Clockwise: {}", isClockwise);
+        LOGGER.debug("Game direction reversed. Clockwise: {}", isClockwise);
         isClockwise = !isClockwise;
     }
 
     @Override
     public void skipTurn() {
-        LOGGER.info("Turn skipped for player ID: {}", playersIDs.get(currentIndex));
+        LOGGER.debug("Turn skipped for player ID: {}", playersIDs.get(currentIndex));
         moveIndex();
     }
 
@@ -2,6 +2,9 @@ package com.primus.model.rules;
 
 import com.primus.model.deck.Card;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Defines the contract for validating card moves within the game.
  * The Validator distinguishes between two main game contexts:
@@ -33,4 +36,17 @@ public interface Validator {
      * @throws NullPointerException if either argument is null.
      */
     boolean isValidDefense(Card topCard, Card toValidate);
+
+    /**
+     * Evaluates a whole hand in one pass, finding the cards that can legally be played.
+     * When a penalty is active only valid defenses are legal, as in {@link #isValidDefense(Card, Card)};
+     * otherwise the standard matching rules of {@link #isValidCard(Card, Card)} apply.
+     *
+     * @param topCard       the card currently on top of the discard pile. Must not be null.
+     * @param hand          the cards of the player. Must not be null.
+     * @param isMalusActive whether the player has to respond to an active penalty.
+     * @return a bit set where bit {@code i} is set if and only if {@code hand.get(i)} is a legal move.
+     * @throws NullPointerException if any argument is null.
+     */
+    BitSet legalMoves(Card topCard, List<Card> hand, boolean isMalusActive);
 }
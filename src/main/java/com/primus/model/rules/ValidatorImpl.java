@@ -6,6 +6,8 @@ import com.primus.model.deck.Values;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -31,10 +33,7 @@ public final class ValidatorImpl implements Validator {
         Objects.requireNonNull(toValidate, "Card to validate cannot be null");
         Objects.requireNonNull(topCard, "Top card cannot be null");
         LOGGER.debug("Checking validity for card: {} on top of: {}", toValidate, topCard);
-        return toValidate.isNativeBlack()
-                || toValidate.getColor() == topCard.getColor()
-                || toValidate.getValue() == topCard.getValue()
-                || toValidate.hasEffect(CardEffect.ALWAYS_PLAYABLE);
+        return matches(topCard, toValidate);
     }
 
     /**
@@ -47,6 +46,52 @@ public final class ValidatorImpl implements Validator {
         Objects.requireNonNull(toValidate, "Defense card cannot be null");
         Objects.requireNonNull(topCard, "Attack card cannot be null");
         LOGGER.debug("Checking defense for card: {} on top of: {}", toValidate, topCard);
+        return defends(topCard, toValidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public BitSet legalMoves(final Card topCard, final List<Card> hand, final boolean isMalusActive) {
+        Objects.requireNonNull(topCard, "Top card cannot be null");
+        Objects.requireNonNull(hand, "Hand cannot be null");
+        final BitSet legal = new BitSet(hand.size());
+        for (int i = 0; i < hand.size(); i++) {
+            final Card card = Objects.requireNonNull(hand.get(i), "Card to validate cannot be null");
+            if (isMalusActive ? defends(topCard, card) : matches(topCard, card)) {
+                legal.set(i);
+            }
+        }
+        LOGGER.debug("Legal moves on top of {} (malus active: {}): {} of {} cards",
+                topCard, isMalusActive, legal.cardinality(), hand.size());
+        return legal;
+    }
+
+    /**
+     * Standard matching rule, without argument checks or logging.
+     *
+     * @param topCard    the card on top of the discard pile
+     * @param toValidate the card to play
+     * @return {@code true} if the card can be played on the top card
+     */
+    static boolean matches(final Card topCard, final Card toValidate) {
+        return toValidate.isNativeBlack()
+                || toValidate.getColor() == topCard.getColor()
+                || toValidate.getValue() == topCard.getValue()
+                || toValidate.hasEffect(CardEffect.ALWAYS_PLAYABLE);
+    }
+
+    /**
+     * Defense rule against an active penalty, without argument checks or logging.
+     *
+     * @param topCard    the penalty card on top of the discard pile
+     * @param toValidate the card to defend with
+     * @return {@code true} if the card is a valid defense
+     */
+    static boolean defends(final Card topCard, final Card toValidate) {
         return topCard.getValue() == Values.WILD_DRAW_FOUR && toValidate.getValue() == Values.WILD_DRAW_FOUR
                 || topCard.getValue() == Values.DRAW_TWO && toValidate.getValue() == Values.DRAW_TWO;
     }
@@ -0,0 +1,617 @@
+package com.primus.model.search;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardEffect;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.rules.PrecomputedValidator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compact, mutable game position meant for game-tree search.
+ *
+ * <p>
+ * The position is expressed only with the card IDs of a {@link CardTable}: per-seat card counts, the deck and
+ * the discard pile as int stacks, the seat to move, the direction of play and the pending malus. Moves are
+ * applied with {@link #apply(int)} and taken back with {@link #undo()}, following the same rules as
+ * {@link com.primus.model.core.GameManagerImpl}. Each applied move pushes a fixed-size frame of ints on an
+ * undo stack instead of copying the position, the IDs of the cards drawn and of the cards left in the deck by a
+ * refill are pushed on separate logs and cards recycled by a refill are still in the discard array below its
+ * base, so restoring them only moves them back and the stack pointers. Once the arrays have grown to fit the game, applying and undoing moves does
+ * not allocate.
+ * </p>
+ *
+ * <p>
+ * Seats are numbered {@code [0, getPlayerCount())} in turn order. Wild cards are held, drawn and recycled
+ * as the Wild card itself and played as one of its colored variants. When the deck is refilled the recycled
+ * cards are put on top of the remaining ones and the whole deck is shuffled with the generator given to the
+ * constructor, exactly as {@link com.primus.model.deck.PrimusDeck} does with its own generator.
+ * </p>
+ *
+ * <p>
+ * Instances are not thread-safe: each search thread works on its own state. A position is handed to the
+ * workers with {@link #copyFrom(SearchState)}, which copies only the compact arrays into the buffers the
+ * worker already owns, so one root position can be forked to many threads as long as it is not modified
+ * while they copy it.
+ * </p>
+ */
+public final class SearchState {
+
+    /**
+     * Move drawing a card, or accepting the pending malus when one is active.
+     */
+    public static final int DRAW = -1;
+
+    /**
+     * Value returned by {@link #getWinner()} while the game is still running.
+     */
+    public static final int NO_WINNER = -1;
+
+    private static final Color[] PLAYABLE_COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+
+    // Layout of an undo frame
+    private static final int F_MOVE = 0;
+    private static final int F_SEAT = 1;
+    private static final int F_CLOCKWISE = 2;
+    private static final int F_MALUS = 3;
+    private static final int F_WINNER = 4;
+    private static final int F_DRAWN = 5;
+    private static final int F_REFILLED = 6;
+    private static final int F_KEPT = 7;
+    private static final int F_DISCARD_BASE = 8;
+    private static final int FRAME_SIZE = 9;
+    private static final int INITIAL_FRAMES = 256;
+
+    private final PrecomputedValidator rules;
+    private final RandomGenerator random;
+    private final int cardKinds;
+    private final int playerCount;
+
+    // Per card ID: the ID held in hand, draw amount, effects and, for Wild cards, the colored variants
+    private final int[] handIdOf;
+    private final int[] drawAmount;
+    private final boolean[] skips;
+    private final boolean[] reverses;
+    private final int[][] variants;
+
+    private final int[] counts;
+    private final int[] handSizes;
+    private int[] deck;
+    private int deckSize;
+    private int[] discard;
+    private int discardBase;
+    private int discardSize;
+    private int current;
+    private boolean clockwise = true;
+    private int malus;
+    private int winner = NO_WINNER;
+    private int[] undoStack = new int[INITIAL_FRAMES * FRAME_SIZE];
+    private int undoSize;
+    private int[] drawLog = new int[INITIAL_FRAMES];
+    private int drawLogSize;
+    private int[] keptLog = new int[INITIAL_FRAMES];
+    private int keptLogSize;
+
+    /**
+     * Creates an empty position for the cards known to the given rules.
+     *
+     * @param rules       the compatibility tables of the deck the game is played with
+     * @param playerCount the number of seats, must be positive
+     * @param random      the generator used to shuffle the deck when it is refilled
+     * @throws IllegalArgumentException if playerCount is not positive
+     * @throws NullPointerException     if rules or random is null
+     */
+    public SearchState(final PrecomputedValidator rules, final int playerCount, final RandomGenerator random) {
+        this.rules = Objects.requireNonNull(rules, "Rules cannot be null");
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+        if (playerCount <= 0) {
+            throw new IllegalArgumentException("Player count must be positive, got: " + playerCount);
+        }
+        this.playerCount = playerCount;
+
+        final CardTable table = rules.getTable();
+        this.cardKinds = table.size();
+        this.handIdOf = new int[cardKinds];
+        this.drawAmount = new int[cardKinds];
+        this.skips = new boolean[cardKinds];
+        this.reverses = new boolean[cardKinds];
+        this.variants = new int[cardKinds][];
+        for (int id = 0; id < cardKinds; id++) {
+            final Card card = table.get(id);
+            handIdOf[id] = card.isNativeBlack() ? card.withColor(Color.BLACK).getId() : id;
+            drawAmount[id] = card.getDrawAmount();
+            skips[id] = card.hasEffect(CardEffect.SKIP_NEXT);
+            reverses[id] = card.hasEffect(CardEffect.REVERSE_TURN);
+            if (card.isNativeBlack()) {
+                variants[id] = Arrays.stream(PLAYABLE_COLORS).mapToInt(c -> card.withColor(c).getId()).toArray();
+            }
+        }
+
+        this.counts = new int[playerCount * cardKinds];
+        this.handSizes = new int[playerCount];
+        this.deck = new int[cardKinds];
+        this.discard = new int[cardKinds];
+    }
+
+    // ---- Position setup ----
+
+    /**
+     * Replaces this position with a copy of another one, reusing the buffers of this state. Only the cards
+     * of the discard pile that can still be recycled are copied, and the undo history of the source is not:
+     * the copy starts with depth 0. The random generator of this state is kept.
+     *
+     * @param source the position to copy, built for the same rules and number of seats
+     * @throws NullPointerException     if source is null
+     * @throws IllegalArgumentException if source uses other rules or another number of seats
+     */
+    public void copyFrom(final SearchState source) {
+        Objects.requireNonNull(source, "Source position cannot be null");
+        if (source.rules != rules || source.playerCount != playerCount) {
+            throw new IllegalArgumentException("Cannot copy a position of other rules or another player count");
+        }
+        System.arraycopy(source.counts, 0, counts, 0, counts.length);
+        System.arraycopy(source.handSizes, 0, handSizes, 0, handSizes.length);
+
+        if (source.deckSize > deck.length) {
+            deck = new int[source.deck.length];
+        }
+        System.arraycopy(source.deck, 0, deck, 0, source.deckSize);
+        deckSize = source.deckSize;
+
+        final int pileSize = source.discardSize - source.discardBase;
+        if (pileSize > discard.length) {
+            discard = new int[source.discard.length];
+        }
+        System.arraycopy(source.discard, source.discardBase, discard, 0, pileSize);
+        discardBase = 0;
+        discardSize = pileSize;
+
+        current = source.current;
+        clockwise = source.clockwise;
+        malus = source.malus;
+        winner = source.winner;
+        undoSize = 0;
+        drawLogSize = 0;
+        keptLogSize = 0;
+    }
+
+    /**
+     * Empties the position: no cards anywhere, seat 0 to move clockwise, no malus, no winner and no undo history.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(handSizes, 0);
+        deckSize = 0;
+        discardBase = 0;
+        discardSize = 0;
+        current = 0;
+        clockwise = true;
+        malus = 0;
+        winner = NO_WINNER;
+        undoSize = 0;
+        drawLogSize = 0;
+        keptLogSize = 0;
+    }
+
+    /**
+     * Puts a card on top of the deck.
+     *
+     * @param id the ID of the card, Wild variants are stored as the Wild card
+     * @throws IndexOutOfBoundsException if the ID is not part of the table
+     */
+    public void addToDeck(final int id) {
+        ensureDeckCapacity(deckSize + 1);
+        deck[deckSize++] = handIdOf[Objects.checkIndex(id, cardKinds)];
+    }
+
+    /**
+     * Puts a card on top of the discard pile.
+     *
+     * @param id the ID of the card
+     * @throws IndexOutOfBoundsException if the ID is not part of the table
+     */
+    public void addToDiscard(final int id) {
+        pushDiscard(Objects.checkIndex(id, cardKinds));
+    }
+
+    /**
+     * Adds a card to the hand of a seat.
+     *
+     * @param seat the seat receiving the card
+     * @param id   the ID of the card, Wild variants are stored as the Wild card
+     * @throws IndexOutOfBoundsException if the seat or the ID is out of range
+     */
+    public void addToHand(final int seat, final int id) {
+        counts[Objects.checkIndex(seat, playerCount) * cardKinds + handIdOf[Objects.checkIndex(id, cardKinds)]]++;
+        handSizes[seat]++;
+    }
+
+    /**
+     * Sets the seat to move and the direction of play.
+     *
+     * @param seat        the seat to move
+     * @param isClockwise {@code true} if play proceeds towards increasing seats
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    public void setTurn(final int seat, final boolean isClockwise) {
+        this.current = Objects.checkIndex(seat, playerCount);
+        this.clockwise = isClockwise;
+    }
+
+    /**
+     * Sets the number of cards pending because of a malus chain.
+     *
+     * @param amount the pending malus, 0 if none
+     * @throws IllegalArgumentException if amount is negative
+     */
+    public void setMalus(final int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Malus must not be negative, got: " + amount);
+        }
+        this.malus = amount;
+    }
+
+    // ---- Moves ----
+
+    /**
+     * Returns an upper bound of the number of moves {@link #legalMoves(int[])} can return.
+     *
+     * @return the minimum length of the array passed to {@link #legalMoves(int[])}
+     */
+    public int maxMoves() {
+        return cardKinds + 1;
+    }
+
+    /**
+     * Writes the legal moves of the seat to move: {@link #DRAW} first, then the ID of every card that can be played,
+     * one for each playable color in the case of Wild cards.
+     *
+     * @param moves the array receiving the moves, at least {@link #maxMoves()} long
+     * @return the number of moves written, 0 if the game is over
+     * @throws IllegalStateException if the discard pile is empty
+     */
+    public int legalMoves(final int[] moves) {
+        if (winner != NO_WINNER) {
+            return 0;
+        }
+        final int top = getTopCard();
+        final int base = current * cardKinds;
+        int count = 0;
+        moves[count++] = DRAW;
+        for (int id = 0; id < cardKinds; id++) {
+            if (counts[base + id] > 0 && isLegal(top, id)) {
+                if (variants[id] == null) {
+                    moves[count++] = id;
+                } else {
+                    for (final int variant : variants[id]) {
+                        moves[count++] = variant;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Plays a move for the seat to move and passes the turn, applying card effects and malus as the game does.
+     *
+     * @param move {@link #DRAW} or the ID of the card to play, with the declared color for Wild cards
+     * @throws IllegalStateException    if the game is over
+     * @throws IllegalArgumentException if the card is not in hand or cannot be played
+     */
+    public void apply(final int move) {
+        if (winner != NO_WINNER) {
+            throw new IllegalStateException("The game is over, seat " + winner + " won");
+        }
+        if (move != DRAW) {
+            final int id = Objects.checkIndex(move, cardKinds);
+            if (counts[current * cardKinds + handIdOf[id]] == 0 || !isLegal(getTopCard(), id)) {
+                throw new IllegalArgumentException("Card " + id + " cannot be played by seat " + current);
+            }
+        }
+        final int frame = pushFrame(move);
+
+        if (move == DRAW) {
+            undoStack[frame + F_DRAWN] = draw(frame, malus > 0 ? malus : 1);
+            malus = 0;
+        } else {
+            counts[current * cardKinds + handIdOf[move]]--;
+            handSizes[current]--;
+            pushDiscard(move);
+            if (handSizes[current] == 0) {
+                winner = current;
+            }
+            if (skips[move]) {
+                advance();
+            }
+            if (reverses[move]) {
+                clockwise = !clockwise;
+            }
+            malus += drawAmount[move];
+        }
+        advance();
+    }
+
+    /**
+     * Takes back the last move applied.
+     *
+     * @throws IllegalStateException if no move has been applied since the position was set up
+     */
+    public void undo() {
+        if (undoSize == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        final int frame = undoSize - FRAME_SIZE;
+        final int move = undoStack[frame + F_MOVE];
+        final int seat = undoStack[frame + F_SEAT];
+
+        if (move == DRAW) {
+            // The drawn cards go back on top of the deck, last drawn first
+            final int drawn = undoStack[frame + F_DRAWN];
+            final int base = seat * cardKinds;
+            for (int i = 0; i < drawn; i++) {
+                final int id = drawLog[--drawLogSize];
+                counts[base + id]--;
+                deck[deckSize++] = id;
+            }
+            handSizes[seat] -= drawn;
+            if (undoStack[frame + F_REFILLED] > 0) {
+                // The recycled cards are still in the discard array, below the current base, and the cards
+                // left before the refill are restored in their order
+                final int kept = undoStack[frame + F_KEPT];
+                keptLogSize -= kept;
+                System.arraycopy(keptLog, keptLogSize, deck, 0, kept);
+                deckSize = kept;
+            }
+            discardBase = undoStack[frame + F_DISCARD_BASE];
+        } else {
+            discardSize--;
+            counts[seat * cardKinds + handIdOf[move]]++;
+            handSizes[seat]++;
+        }
+        current = seat;
+        clockwise = undoStack[frame + F_CLOCKWISE] != 0;
+        malus = undoStack[frame + F_MALUS];
+        winner = undoStack[frame + F_WINNER];
+        undoSize = frame;
+    }
+
+    // ---- Queries ----
+
+    /**
+     * Returns the rules and the cards this position is expressed with.
+     *
+     * @return the compatibility tables of the deck
+     */
+    public PrecomputedValidator getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Returns the seat to move.
+     *
+     * @return the current seat
+     */
+    public int getCurrentSeat() {
+        return current;
+    }
+
+    /**
+     * Returns the direction of play.
+     *
+     * @return {@code true} if play proceeds towards increasing seats
+     */
+    public boolean isClockwise() {
+        return clockwise;
+    }
+
+    /**
+     * Returns the number of cards pending because of a malus chain.
+     *
+     * @return the pending malus, 0 if none
+     */
+    public int getMalus() {
+        return malus;
+    }
+
+    /**
+     * Returns the seat that emptied its hand.
+     *
+     * @return the winning seat, or {@link #NO_WINNER} if the game is still running
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return {@code true} if a seat has won
+     */
+    public boolean isTerminal() {
+        return winner != NO_WINNER;
+    }
+
+    /**
+     * Returns the number of moves applied and not undone since the position was set up.
+     *
+     * @return the depth of the undo history
+     */
+    public int getDepth() {
+        return undoSize / FRAME_SIZE;
+    }
+
+    /**
+     * Returns the card on top of the discard pile.
+     *
+     * @return the ID of the top card
+     * @throws IllegalStateException if the discard pile is empty
+     */
+    public int getTopCard() {
+        if (discardSize == 0) {
+            throw new IllegalStateException("Discard pile is empty");
+        }
+        return discard[discardSize - 1];
+    }
+
+    /**
+     * Returns the number of cards in the hand of a seat.
+     *
+     * @param seat the seat
+     * @return the size of the hand
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    public int getHandSize(final int seat) {
+        return handSizes[Objects.checkIndex(seat, playerCount)];
+    }
+
+    /**
+     * Returns how many copies of a card a seat holds.
+     *
+     * @param seat the seat
+     * @param id   the ID of the card, Wild variants count as the Wild card
+     * @return the number of copies in hand
+     * @throws IndexOutOfBoundsException if the seat or the ID is out of range
+     */
+    public int getCount(final int seat, final int id) {
+        return counts[Objects.checkIndex(seat, playerCount) * cardKinds + handIdOf[Objects.checkIndex(id, cardKinds)]];
+    }
+
+    /**
+     * Returns the number of cards in the deck.
+     *
+     * @return the size of the deck
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns a card of the deck.
+     *
+     * @param position the position in the deck, 0 being the bottom card
+     * @return the ID of the card
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public int getDeckCard(final int position) {
+        return deck[Objects.checkIndex(position, deckSize)];
+    }
+
+    /**
+     * Returns the number of cards in the discard pile that would be recycled by a refill, top card excluded.
+     *
+     * @return the number of recyclable cards
+     */
+    public int getRecyclableCount() {
+        return Math.max(0, discardSize - discardBase - 1);
+    }
+
+    // ---- Internals ----
+
+    private boolean isLegal(final int top, final int id) {
+        return malus > 0 ? rules.canDefend(top, id) : rules.canPlay(top, id);
+    }
+
+    private int pushFrame(final int move) {
+        if (undoSize + FRAME_SIZE > undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, undoStack.length * 2);
+        }
+        final int frame = undoSize;
+        undoStack[frame + F_MOVE] = move;
+        undoStack[frame + F_SEAT] = current;
+        undoStack[frame + F_CLOCKWISE] = clockwise ? 1 : 0;
+        undoStack[frame + F_MALUS] = malus;
+        undoStack[frame + F_WINNER] = winner;
+        undoStack[frame + F_DRAWN] = 0;
+        undoStack[frame + F_REFILLED] = 0;
+        undoStack[frame + F_KEPT] = 0;
+        undoStack[frame + F_DISCARD_BASE] = discardBase;
+        undoSize += FRAME_SIZE;
+        return frame;
+    }
+
+    /**
+     * Draws cards for the seat to move, refilling the deck once first if it holds too few.
+     *
+     * @return the number of cards actually drawn
+     */
+    private int draw(final int frame, final int amount) {
+        if (deckSize < amount) {
+            undoStack[frame + F_KEPT] = deckSize;
+            undoStack[frame + F_REFILLED] = refill();
+        }
+        final int drawn = Math.min(amount, deckSize);
+        if (drawLogSize + drawn > drawLog.length) {
+            drawLog = Arrays.copyOf(drawLog, Math.max(drawLogSize + drawn, drawLog.length * 2));
+        }
+        final int base = current * cardKinds;
+        for (int i = 0; i < drawn; i++) {
+            final int id = deck[--deckSize];
+            drawLog[drawLogSize++] = id;
+            counts[base + id]++;
+        }
+        handSizes[current] += drawn;
+        return drawn;
+    }
+
+    /**
+     * Moves every card of the discard pile but the top one on top of the deck, as Wild cards lose their
+     * declared color, and shuffles the whole deck. The cards left are logged and the discard array is left
+     * untouched below the new base.
+     *
+     * @return the number of recycled cards
+     */
+    private int refill() {
+        final int recycled = getRecyclableCount();
+        if (recycled == 0) {
+            return 0;
+        }
+        if (keptLogSize + deckSize > keptLog.length) {
+            keptLog = Arrays.copyOf(keptLog, Math.max(keptLogSize + deckSize, keptLog.length * 2));
+        }
+        System.arraycopy(deck, 0, keptLog, keptLogSize, deckSize);
+        keptLogSize += deckSize;
+        ensureDeckCapacity(deckSize + recycled);
+        for (int i = discardBase; i < discardSize - 1; i++) {
+            deck[deckSize++] = handIdOf[discard[i]];
+        }
+        // The same Fisher-Yates shuffle as the game deck
+        for (int i = deckSize - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = tmp;
+        }
+        discardBase = discardSize - 1;
+        return recycled;
+    }
+
+    private void pushDiscard(final int id) {
+        if (discardSize == discard.length) {
+            discard = Arrays.copyOf(discard, discard.length * 2 + 1);
+        }
+        discard[discardSize++] = id;
+    }
+
+    private void ensureDeckCapacity(final int capacity) {
+        if (capacity > deck.length) {
+            deck = Arrays.copyOf(deck, Math.max(capacity, deck.length * 2));
+        }
+    }
+
+    private void advance() {
+        current = clockwise ? (current + 1) % playerCount : (current + playerCount - 1) % playerCount;
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Objects;
  * @param playersCardCounts a map of player IDs to the count of cards in their hands
  * @param isMalusActive flag indicating if there are cards to be drawn at the start of the turn due to a malus effect
  * @param eventName the name of the current game event or mode
+ * @param version the version of the state, increased every time the table changes
  */
 public record GameState(
         Card topCard,
@@ -22,7 +23,8 @@ public record GameState(
         Map<Integer, Integer> playersCardCounts,
         int playerId,
         boolean isMalusActive,
-        String eventName
+        String eventName,
+        long version
 ) {
 
     /**
@@ -34,6 +36,7 @@ public record GameState(
      * @param playersCardCounts a map of player IDs to the count of cards in their hands
      * @param isMalusActive flag indicating if there are cards to be drawn at the start of the turn due to a malus effect
      * @param eventName the name of the current game event or mode
+     * @param version the version of the state, increased every time the table changes
      */
     public GameState {
         Objects.requireNonNull(topCard);
@@ -0,0 +1,90 @@
+package com.primus.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * DTO class which represents the resources a search-based bot may spend on a single decision.
+ * The search stops as soon as either limit is reached.
+ *
+ * @param iterations  the maximum number of rollouts, shared by all the threads
+ * @param timeLimit   the maximum wall-clock time, or {@link #NO_TIME_LIMIT}
+ * @param parallelism the number of search trees grown concurrently, each on its own thread when the pool has
+ *                    enough of them
+ */
+public record SearchBudget(int iterations, Duration timeLimit, int parallelism) {
+
+    /**
+     * Value of {@code timeLimit} for searches bounded only by the number of iterations.
+     * Such searches are reproducible: the same seed always leads to the same decisions.
+     */
+    public static final Duration NO_TIME_LIMIT = Duration.ZERO;
+
+    /**
+     * Parallelism of the budgets created by {@link #ofIterations(int)}. It does not depend on the machine, so
+     * that the same seed leads to the same decisions whatever the number of cores.
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * Compact constructor that ensures positive limits.
+     *
+     * @param iterations  the maximum number of rollouts, must be positive
+     * @param timeLimit   the maximum wall-clock time, must not be negative
+     * @param parallelism the number of threads, must be positive
+     * @throws IllegalArgumentException if a limit is not positive or the time limit is negative
+     * @throws NullPointerException     if timeLimit is null
+     */
+    public SearchBudget {
+        Objects.requireNonNull(timeLimit, "Time limit cannot be null");
+        if (iterations <= 0 || parallelism <= 0 || timeLimit.isNegative()) {
+            throw new IllegalArgumentException("Invalid search budget, got iterations=" + iterations
+                    + " timeLimit=" + timeLimit + " parallelism=" + parallelism);
+        }
+    }
+
+    /**
+     * Creates a budget of a fixed number of rollouts, spread over {@link #DEFAULT_PARALLELISM} trees.
+     *
+     * @param iterations the number of rollouts, must be positive
+     * @return the budget
+     * @throws IllegalArgumentException if iterations is not positive
+     */
+    public static SearchBudget ofIterations(final int iterations) {
+        return new SearchBudget(iterations, NO_TIME_LIMIT, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a budget of a fixed thinking time, run on every available core.
+     *
+     * @param timeLimit the time spent on each decision, must be positive
+     * @return the budget
+     * @throws IllegalArgumentException if the time limit is not positive
+     */
+    public static SearchBudget ofTime(final Duration timeLimit) {
+        if (Objects.requireNonNull(timeLimit, "Time limit cannot be null").isZero()) {
+            throw new IllegalArgumentException("Time limit must be positive");
+        }
+        return new SearchBudget(Integer.MAX_VALUE, timeLimit, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns a copy of this budget running on the given number of threads.
+     *
+     * @param threads the number of threads, must be positive
+     * @return the new budget
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public SearchBudget withParallelism(final int threads) {
+        return new SearchBudget(iterations, timeLimit, threads);
+    }
+
+    /**
+     * Checks whether the search is bounded by time.
+     *
+     * @return {@code true} if the budget has a time limit
+     */
+    public boolean hasTimeLimit() {
+        return !timeLimit.isZero();
+    }
+}
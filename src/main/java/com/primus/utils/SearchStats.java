@@ -0,0 +1,37 @@
+package com.primus.utils;
+
+/**
+ * DTO class which represents the work done by a search-based bot.
+ *
+ * @param decisions    the number of decisions searched
+ * @param rollouts     the number of rollouts played
+ * @param elapsedNanos the wall-clock time spent searching, in nanoseconds
+ */
+public record SearchStats(long decisions, long rollouts, long elapsedNanos) {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * Compact constructor that ensures non-negative counters.
+     *
+     * @param decisions    the number of decisions, must be non-negative
+     * @param rollouts     the number of rollouts, must be non-negative
+     * @param elapsedNanos the time spent searching, must be non-negative
+     * @throws IllegalArgumentException if a counter is negative
+     */
+    public SearchStats {
+        if (decisions < 0 || rollouts < 0 || elapsedNanos < 0) {
+            throw new IllegalArgumentException("Counters must be non-negative, got decisions=" + decisions
+                    + " rollouts=" + rollouts + " elapsedNanos=" + elapsedNanos);
+        }
+    }
+
+    /**
+     * Returns the throughput of the search.
+     *
+     * @return the rollouts played per second of search, 0 if nothing was searched
+     */
+    public double rolloutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rollouts * NANOS_PER_SECOND / elapsedNanos;
+    }
+}
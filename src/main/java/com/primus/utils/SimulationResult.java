@@ -0,0 +1,48 @@
+package com.primus.utils;
+
+import com.primus.model.deck.GameEvent;
+
+import java.util.Objects;
+
+/**
+ * DTO class which represents the outcome of a game played without views.
+ *
+ * @param winnerId the ID of the winner, or {@link #NO_WINNER} if the game was interrupted
+ * @param turns    the number of turns played
+ * @param refills  the number of times the deck has been refilled from the discard pile
+ * @param event    the game event the game was played with
+ */
+public record SimulationResult(int winnerId, int turns, int refills, GameEvent event) {
+
+    /**
+     * Value of {@code winnerId} when the game ended without a winner.
+     */
+    public static final int NO_WINNER = -1;
+
+    /**
+     * Compact constructor that ensures non-null event and non-negative counters.
+     *
+     * @param winnerId the ID of the winner, or {@link #NO_WINNER} if the game was interrupted
+     * @param turns    the number of turns played, must be non-negative
+     * @param refills  the number of deck refills, must be non-negative
+     * @param event    the game event the game was played with, must not be null
+     * @throws IllegalArgumentException if a counter is negative
+     * @throws NullPointerException     if event is null
+     */
+    public SimulationResult {
+        Objects.requireNonNull(event, "Game event cannot be null");
+        if (turns < 0 || refills < 0) {
+            throw new IllegalArgumentException("Counters must be non-negative, got turns=" + turns
+                    + " refills=" + refills);
+        }
+    }
+
+    /**
+     * Checks whether the game ended with a winner.
+     *
+     * @return {@code true} if a player emptied their hand
+     */
+    public boolean hasWinner() {
+        return winnerId != NO_WINNER;
+    }
+}
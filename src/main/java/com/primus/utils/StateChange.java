@@ -0,0 +1,19 @@
+package com.primus.utils;
+
+/**
+ * The parts of a {@link GameState} that can change between two versions of the state.
+ */
+public enum StateChange {
+    /** The card on top of the discard pile. */
+    TOP_CARD,
+    /** The cards held by the human player. */
+    HUMAN_HAND,
+    /** The number of cards held by any player. */
+    CARD_COUNTS,
+    /** The player whose turn it is. */
+    CURRENT_PLAYER,
+    /** Whether a malus is pending. */
+    MALUS,
+    /** The game event, which only changes when a new game starts. */
+    EVENT
+}
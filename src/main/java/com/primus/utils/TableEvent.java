@@ -0,0 +1,38 @@
+package com.primus.utils;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+
+import java.util.Objects;
+
+/**
+ * DTO class which represents something that happened on the table, as delivered by
+ * {@link com.primus.model.core.BufferedTableListener}.
+ *
+ * @param type      the kind of event
+ * @param playerId  the player involved, or {@link #NO_PLAYER} for events not tied to a player
+ * @param card      the card involved (played card or start card), or {@code null}
+ * @param amount    the number of cards involved (dealt, drawn, pending or left in the deck), 0 if not relevant
+ * @param gameEvent the game event of a new game, {@code null} for other events
+ */
+public record TableEvent(TableEventType type, int playerId, Card card, int amount, GameEvent gameEvent) {
+
+    /**
+     * Value of {@code playerId} for events not tied to a player.
+     */
+    public static final int NO_PLAYER = -1;
+
+    /**
+     * Compact constructor that ensures a non-null type.
+     *
+     * @param type      the kind of event, must not be null
+     * @param playerId  the player involved, or {@link #NO_PLAYER}
+     * @param card      the card involved, or {@code null}
+     * @param amount    the number of cards involved
+     * @param gameEvent the game event of a new game, or {@code null}
+     * @throws NullPointerException if type is null
+     */
+    public TableEvent {
+        Objects.requireNonNull(type, "Event type cannot be null");
+    }
+}
@@ -0,0 +1,29 @@
+package com.primus.utils;
+
+/**
+ * The kinds of {@link TableEvent}, one for each callback of {@link com.primus.model.core.TableListener}.
+ */
+public enum TableEventType {
+    /** A new game has been dealt. */
+    GAME_STARTED,
+    /** A player has taken a seat, players are announced in seat order. */
+    PLAYER_SEATED,
+    /** A player's turn has started. */
+    TURN_STARTED,
+    /** A valid card has been played. */
+    CARD_PLAYED,
+    /** A player has drawn cards. */
+    CARDS_DRAWN,
+    /** The direction of play has been reversed. */
+    DIRECTION_REVERSED,
+    /** A player's turn has been skipped. */
+    TURN_SKIPPED,
+    /** A penalty card has been added to the malus chain. */
+    MALUS_ACCUMULATED,
+    /** A player has drawn the pending malus. */
+    MALUS_RESOLVED,
+    /** The deck has been refilled from the discard pile. */
+    DECK_REFILLED,
+    /** A player has won the game. */
+    GAME_WON
+}
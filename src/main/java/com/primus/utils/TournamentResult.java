@@ -0,0 +1,62 @@
+package com.primus.utils;
+
+import com.primus.model.deck.GameEvent;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DTO class which represents the aggregated outcome of a series of simulated games.
+ *
+ * @param event       the game event every game was played with
+ * @param games       the number of games played
+ * @param wins        a map of player IDs to the number of games they won
+ * @param unfinished  the number of games interrupted without a winner
+ * @param totalTurns  the sum of the turns played in every game
+ * @param totalRefills the sum of the deck refills of every game
+ */
+public record TournamentResult(
+        GameEvent event,
+        long games,
+        Map<Integer, Long> wins,
+        long unfinished,
+        long totalTurns,
+        long totalRefills
+) {
+
+    /**
+     * Compact constructor that ensures immutability of the wins map and non-null values.
+     *
+     * @param event        the game event every game was played with
+     * @param games        the number of games played
+     * @param wins         a map of player IDs to the number of games they won
+     * @param unfinished   the number of games interrupted without a winner
+     * @param totalTurns   the sum of the turns played in every game
+     * @param totalRefills the sum of the deck refills of every game
+     */
+    public TournamentResult {
+        Objects.requireNonNull(event);
+        Objects.requireNonNull(wins);
+
+        wins = Map.copyOf(wins);
+    }
+
+    /**
+     * Returns the number of games won by a player.
+     *
+     * @param playerId the ID of the player
+     * @return the number of wins, 0 if the player never won
+     */
+    public long winsOf(final int playerId) {
+        return wins.getOrDefault(playerId, 0L);
+    }
+
+    /**
+     * Returns the average number of turns per game.
+     *
+     * @return the mean game length in turns, 0 if no game was played
+     */
+    public double averageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+}
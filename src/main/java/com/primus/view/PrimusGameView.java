@@ -1,5 +1,6 @@
 package com.primus.view;
 
+import com.primus.metrics.ViewUpdateEvent;
 import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
 import com.primus.model.deck.ImageLoader;
@@ -263,6 +264,8 @@ public final class PrimusGameView extends JFrame implements GameView {
     public void updateView(final GameState gameState) {
         SwingUtilities.invokeLater(() -> {
             Objects.requireNonNull(gameState);
+            final ViewUpdateEvent event = new ViewUpdateEvent();
+            event.begin();
             final int currentId = gameState.playerId();
             LOGGER.debug("Updating view. Active Player ID: {}", currentId);
             final boolean isHumanTurn = Objects.equals(currentId, this.humanPlayerID);
@@ -299,6 +302,7 @@ public final class PrimusGameView extends JFrame implements GameView {
             } else {
                 tablePanel.setAlertMode(false);
             }
+            event.complete(ViewUpdateEvent.RENDER, gameState.version());
         });
     }
 
@@ -0,0 +1,177 @@
+package com.primus.metrics;
+
+import com.primus.controller.GameController;
+import com.primus.controller.GameControllerImpl;
+import com.primus.model.core.GameManagerImpl;
+import com.primus.model.core.GameSimulatorImpl;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.bot.BotLineups;
+import com.primus.utils.GameState;
+import com.primus.utils.PlayerSetupData;
+import com.primus.utils.SimulationResult;
+import com.primus.view.GameView;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecorderEventsTest {
+
+    private static final long SEED = 42L;
+    private static final List<String> EVENTS = List.of("com.primus.Turn", "com.primus.BotDecision",
+            "com.primus.Deck", "com.primus.Sanction");
+
+    private static List<RecordedEvent> readEvents(final Recording recording) throws IOException {
+        final Path file = Files.createTempFile("primus", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean isEvent(final RecordedEvent event, final String name) {
+        return name.equals(event.getEventType().getName());
+    }
+
+    @Test
+    @DisplayName("A recorded game emits turn, decision, deck and sanction events")
+    void testGameEventsRecorded() throws IOException {
+        final SimulationResult result;
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(name -> recording.enable(name).withoutThreshold());
+            recording.start();
+            result = new GameSimulatorImpl(BotLineups::heuristicBots, GameEvent.STANDARD,
+                    GameSimulatorImpl.DEFAULT_MAX_TURNS, SEED).play();
+            recording.stop();
+            events = readEvents(recording);
+        }
+        final Map<String, Long> counts = events.stream()
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName(), Collectors.counting()));
+        assertTrue(counts.getOrDefault("com.primus.Turn", 0L) >= result.turns());
+        assertTrue(counts.getOrDefault("com.primus.BotDecision", 0L) >= result.turns());
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, "com.primus.Deck")
+                && DeckEvent.INIT.equals(e.getString("operation"))));
+        final List<RecordedEvent> deckEvents = events.stream()
+                .filter(e -> isEvent(e, "com.primus.Deck"))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+        for (int i = 1; i < deckEvents.size(); i++) {
+            assertFalse(deckEvents.get(i).getStartTime().isBefore(deckEvents.get(i - 1).getEndTime()),
+                    "Deck events should not nest");
+        }
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, "com.primus.Sanction")
+                && List.of(SanctionEvent.ACCUMULATE, SanctionEvent.RESOLVE).contains(e.getString("action"))
+                && e.getInt("amount") > 0), "A seeded game should accumulate or resolve a malus");
+
+        final RecordedEvent decision = events.stream()
+                .filter(e -> isEvent(e, "com.primus.BotDecision"))
+                .findFirst().orElseThrow();
+        assertTrue(decision.getInt("candidates") >= 0);
+        assertTrue(List.of("RandomStrategy", "AggressiveStrategy", "CheaterStrategy")
+                .contains(decision.getString("strategy")));
+    }
+
+    @Test
+    @DisplayName("Publishing the game state to the views emits a view update event")
+    void testViewUpdateRecorded() throws IOException {
+        final GameController controller = new GameControllerImpl(
+                new GameManagerImpl(BotLineups::heuristicBots, GameEvent.STANDARD, SEED));
+        controller.addView(new StoppingView(controller));
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.primus.ViewUpdate").withoutThreshold();
+            recording.start();
+            // The view stops the controller as soon as a game is set up, after the first state is published
+            controller.start();
+            recording.stop();
+            events = readEvents(recording);
+        }
+        final List<RecordedEvent> updates = events.stream()
+                .filter(e -> isEvent(e, "com.primus.ViewUpdate"))
+                .toList();
+        assertEquals(1, updates.size());
+        assertEquals(ViewUpdateEvent.PUBLISH, updates.get(0).getString("phase"));
+        assertTrue(updates.get(0).getLong("version") > 0);
+    }
+
+    /**
+     * View that renders nothing and stops the game as soon as it is set up.
+     */
+    private static final class StoppingView implements GameView {
+
+        private final GameController controller;
+
+        private StoppingView(final GameController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public void initGame(final List<PlayerSetupData> players) {
+            controller.stop();
+        }
+
+        @Override
+        public void setCardPlayedListener(final Consumer<Card> listener) {
+            // Nothing to play from
+        }
+
+        @Override
+        public void setDrawListener(final Runnable listener) {
+            // Nothing to draw from
+        }
+
+        @Override
+        public void setNewMatchListener(final Consumer<Boolean> listener) {
+            // No new match is ever asked for
+        }
+
+        @Override
+        public void updateView(final GameState gameState) {
+            // Nothing is rendered
+        }
+
+        @Override
+        public void showCurrentPlayer(final int currentPlayer) {
+            // Nothing is rendered
+        }
+
+        @Override
+        public void showMessage(final String message) {
+            // Nothing is rendered
+        }
+
+        @Override
+        public void showError(final String errorMessage) {
+            // Nothing is rendered
+        }
+
+        @Override
+        public void showGameOverMessage(final String winnerName) {
+            // The game is stopped before it ends
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.primus.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryImplTest {
+
+    private static final int VALUES = 100;
+    private static final double MEDIAN = 50;
+    private static final double TAIL = 99;
+
+    @Test
+    @DisplayName("Counters are shared by name and sum every increment")
+    void testCounters() {
+        final MetricsRegistry registry = new MetricsRegistryImpl(true);
+        final Counter counter = registry.counter("refills");
+        assertSame(counter, registry.counter("refills"));
+        counter.increment();
+        counter.add(2);
+        assertEquals(3, counter.getCount());
+        assertEquals(Map.of("refills", 3L), registry.getCounters());
+    }
+
+    @Test
+    @DisplayName("Histograms report count, mean, maximum and bucket bounds of percentiles")
+    void testHistogram() {
+        final Histogram histogram = new MetricsRegistryImpl(true).histogram("latency");
+        assertEquals(0, histogram.getPercentile(MEDIAN));
+        for (int i = 1; i <= VALUES; i++) {
+            histogram.record(i);
+        }
+        assertEquals(VALUES, histogram.getCount());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+        assertEquals(VALUES, histogram.getMax());
+        // The median 50 lies in the bucket [32, 64), the 99th percentile is capped by the maximum
+        assertEquals(63, histogram.getPercentile(MEDIAN));
+        assertEquals(VALUES, histogram.getPercentile(TAIL));
+        assertEquals(1, histogram.getPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    @DisplayName("Negative values are recorded as zero")
+    void testNegativeValue() {
+        final Histogram histogram = new MetricsRegistryImpl(true).histogram("latency");
+        histogram.record(-1);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("Timers record the elapsed nanoseconds")
+    void testTimer() {
+        final Histogram histogram = new MetricsRegistryImpl(true).histogram("latency");
+        final long start = histogram.start();
+        histogram.recordSince(start);
+        assertEquals(1, histogram.getCount());
+        assertTrue(histogram.getMax() >= 0);
+    }
+
+    @Test
+    @DisplayName("The management view summarises every histogram")
+    void testHistogramSummary() {
+        final MetricsRegistry registry = new MetricsRegistryImpl(true);
+        registry.histogram("malus").record(2);
+        final Map<String, Double> summary = registry.getHistograms();
+        assertEquals(1.0, summary.get("malus.count"));
+        assertEquals(2.0, summary.get("malus.mean"));
+        assertEquals(2.0, summary.get("malus.max"));
+        assertTrue(summary.containsKey("malus.p50") && summary.containsKey("malus.p99"));
+    }
+
+    @Test
+    @DisplayName("A disabled registry records nothing")
+    void testDisabled() {
+        final MetricsRegistry registry = new MetricsRegistryImpl(false);
+        final Counter counter = registry.counter("refills");
+        final Histogram histogram = registry.histogram("latency");
+        counter.increment();
+        histogram.record(1);
+        assertEquals(0, histogram.start());
+        assertEquals(0, counter.getCount());
+        assertEquals(0, histogram.getCount());
+        assertTrue(registry.getCounters().isEmpty());
+        assertTrue(registry.getHistograms().isEmpty());
+    }
+}
@@ -0,0 +1,231 @@
+package com.primus.model.core;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Hand;
+import com.primus.model.player.bot.BotLineups;
+import com.primus.model.player.bot.TableObservation;
+import com.primus.model.rules.PrecomputedValidator;
+import com.primus.model.search.SearchState;
+import com.primus.utils.SimulationResult;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation regression tests, measured in heap bytes on the calling thread. Seeded headless games must stay
+ * within a declared budget, about a quarter above the allocation measured for each event (35 to 55 KiB per game,
+ * 530 to 700 bytes per turn): a hot path that starts allocating on every turn breaks it. The updates of the data
+ * structures played on every turn and in every search step must not allocate at all once they are warmed up.
+ */
+class GameAllocationTest {
+
+    private static final long SEED = 42L;
+    private static final int WARMUP_GAMES = 10;
+    private static final int MEASURED_GAMES = 20;
+    private static final long KIB = 1024L;
+    private static final long TURN_BUDGET = 880L;
+    private static final Map<GameEvent, Long> GAME_BUDGETS = new EnumMap<>(Map.of(
+            GameEvent.STANDARD, 44 * KIB,
+            GameEvent.DOUBLE_TROUBLE, 56 * KIB,
+            GameEvent.REVERSE_ZERO, 50 * KIB,
+            GameEvent.BLOCK_SEVEN, 45 * KIB,
+            GameEvent.TOTAL_CHAOS, 69 * KIB));
+    // Enough runs for the JIT to compile the measured operations before they are measured
+    private static final int WARMUP_RUNS = 20_000;
+    private static final int MEASURED_RUNS = 1000;
+    private static final int HAND_SIZE = 7;
+    private static final int SEATS = 3;
+    private static final int SEARCH_DEPTH = 32;
+
+    private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    private Level level;
+
+    /**
+     * Returns the allocation counters of the JVM, skipping the test where they are not available.
+     */
+    private static com.sun.management.ThreadMXBean allocationCounters() {
+        final var threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation counters are not available on this JVM");
+        final var allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported");
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        return allocations;
+    }
+
+    /**
+     * Runs an action until it is compiled, then returns the bytes allocated by {@value #MEASURED_RUNS} more runs.
+     */
+    private static long allocatedBy(final Runnable action) {
+        final var allocations = allocationCounters();
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            action.run();
+        }
+        final long start = allocations.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            action.run();
+        }
+        return allocations.getCurrentThreadAllocatedBytes() - start;
+    }
+
+    /**
+     * Returns the cards of the standard deck in a seeded random order.
+     */
+    private static List<Card> shuffledDeck() {
+        final List<Card> deck = new ArrayList<>(DeckTemplate.forEvent(GameEvent.STANDARD).getCards());
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = deck.size() - 1; i > 0; i--) {
+            deck.set(i, deck.set(random.nextInt(i + 1), deck.get(i)));
+        }
+        return deck;
+    }
+
+    @BeforeEach
+    void silenceLogging() {
+        // Per-turn log messages would dominate the measure, they are not what the budgets are about
+        level = root.getLevel();
+        root.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        root.setLevel(level);
+    }
+
+    @Test
+    @DisplayName("Every game event has an allocation budget")
+    void testEveryEventHasBudget() {
+        assertEquals(GameEvent.values().length, GAME_BUDGETS.size());
+    }
+
+    @Test
+    @DisplayName("Seeded games stay within the allocation budget of their event")
+    void testAllocationWithinBudget() {
+        final var allocations = allocationCounters();
+
+        for (final GameEvent event : GameEvent.values()) {
+            final GameSimulator simulator = new GameSimulatorImpl(BotLineups::heuristicBots, event,
+                    GameSimulatorImpl.DEFAULT_MAX_TURNS, SEED);
+            for (int i = 0; i < WARMUP_GAMES; i++) {
+                simulator.play();
+            }
+            final long start = allocations.getCurrentThreadAllocatedBytes();
+            long turns = 0;
+            for (int i = 0; i < MEASURED_GAMES; i++) {
+                final SimulationResult result = simulator.play();
+                turns += result.turns();
+            }
+            final long allocated = allocations.getCurrentThreadAllocatedBytes() - start;
+
+            final long perGame = allocated / MEASURED_GAMES;
+            final long perTurn = allocated / Math.max(1, turns);
+            assertTrue(perGame <= GAME_BUDGETS.get(event),
+                    event + " allocated " + perGame + " bytes per game, budget is " + GAME_BUDGETS.get(event));
+            assertTrue(perTurn <= TURN_BUDGET,
+                    event + " allocated " + perTurn + " bytes per turn, budget is " + TURN_BUDGET);
+        }
+    }
+
+    @Test
+    @DisplayName("Adding and removing the cards of a hand does not allocate")
+    void testHandDoesNotAllocate() {
+        // An array, so that iterating over the cards does not allocate either
+        final Card[] cards = shuffledDeck().subList(0, HAND_SIZE).toArray(new Card[0]);
+        final Hand hand = new Hand();
+        hand.addAll(List.of(cards));
+        assertEquals(0, allocatedBy(() -> {
+            for (final Card card : cards) {
+                hand.remove(card);
+            }
+            for (final Card card : cards) {
+                hand.add(card);
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("Checking moves against the precomputed tables does not allocate")
+    void testPrecomputedValidatorDoesNotAllocate() {
+        final PrecomputedValidator rules = PrecomputedValidator.forEvent(GameEvent.STANDARD);
+        final int kinds = rules.getTable().size();
+        final int[] playable = new int[1];
+        assertEquals(0, allocatedBy(() -> {
+            for (int top = 0; top < kinds; top++) {
+                for (int card = 0; card < kinds; card++) {
+                    if (rules.canPlay(top, card)) {
+                        playable[0]++;
+                    }
+                }
+            }
+        }));
+        assertTrue(playable[0] > 0);
+    }
+
+    @Test
+    @DisplayName("Applying and undoing search moves does not allocate")
+    void testSearchStateDoesNotAllocate() {
+        final PrecomputedValidator rules = PrecomputedValidator.forEvent(GameEvent.STANDARD);
+        final List<Card> deck = shuffledDeck();
+        final SearchState position = new SearchState(rules, SEATS, new SplittableRandom(SEED));
+        position.addToDiscard(deck.get(0).getId());
+        for (int i = 1; i < deck.size(); i++) {
+            if (i <= SEATS * HAND_SIZE) {
+                position.addToHand(i % SEATS, deck.get(i).getId());
+            } else {
+                position.addToDeck(deck.get(i).getId());
+            }
+        }
+        final SearchState state = new SearchState(rules, SEATS, new SplittableRandom(SEED));
+        final int[] moves = new int[state.maxMoves()];
+        assertEquals(0, allocatedBy(() -> {
+            state.copyFrom(position);
+            while (!state.isTerminal() && state.getDepth() < SEARCH_DEPTH) {
+                state.apply(moves[state.legalMoves(moves) - 1]);
+            }
+            while (state.getDepth() > 0) {
+                state.undo();
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("Updating the table observation of a bot does not allocate")
+    void testTableObservationDoesNotAllocate() {
+        final List<Card> deck = shuffledDeck();
+        final TableObservation observation = new TableObservation(1, List.of());
+        assertEquals(0, allocatedBy(() -> {
+            observation.onGameStarted(GameEvent.STANDARD, deck.get(0));
+            for (int seat = 0; seat < SEATS; seat++) {
+                observation.onPlayerSeated(seat + 1, HAND_SIZE, true);
+            }
+            for (int i = 1; i <= SEATS * HAND_SIZE; i++) {
+                final int player = i % SEATS + 1;
+                observation.onTurnStarted(player);
+                if (i % 2 == 0) {
+                    observation.onCardPlayed(player, deck.get(i));
+                } else {
+                    observation.onCardsDrawn(player, 1);
+                }
+            }
+            observation.onDeckRefilled(deck.size());
+        }));
+    }
+}
@@ -0,0 +1,90 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.utils.TableEvent;
+import com.primus.utils.TableEventType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameJournalTest {
+
+    private static final int CAPACITY = 4;
+    private static final int TURNS = 10;
+    private static final long SEED = 7L;
+    private static final int MAX_TURNS = 10_000;
+
+    @Test
+    @DisplayName("The journal keeps the most recent records, oldest first")
+    void testRingKeepsRecentRecords() {
+        final GameJournal journal = new GameJournal(CAPACITY);
+        for (int i = 0; i < TURNS; i++) {
+            journal.onTurnStarted(i);
+        }
+        assertEquals(TURNS, journal.getRecordedCount());
+        final List<TableEvent> records = journal.getRecords();
+        assertEquals(CAPACITY, records.size());
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(new TableEvent(TableEventType.TURN_STARTED, TURNS - CAPACITY + i, null, 0, null),
+                    records.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Records are read back as the events received")
+    void testRecordsMatchEvents() {
+        final GameJournal journal = new GameJournal(CAPACITY);
+        final Card startCard = DeckTemplate.forEvent(GameEvent.BLOCK_SEVEN).getCards().get(0);
+        journal.onGameStarted(GameEvent.BLOCK_SEVEN, startCard);
+        journal.onMalusAccumulated(2, 4);
+        journal.onDeckRefilled(30);
+        assertEquals(List.of(
+                new TableEvent(TableEventType.GAME_STARTED, TableEvent.NO_PLAYER, startCard, 0, GameEvent.BLOCK_SEVEN),
+                new TableEvent(TableEventType.MALUS_ACCUMULATED, 2, null, 4, null),
+                new TableEvent(TableEventType.DECK_REFILLED, TableEvent.NO_PLAYER, null, 30, null)),
+                journal.getRecords());
+        // Dumping only reads the records
+        journal.dump("test");
+        assertEquals(3, journal.getRecords().size());
+    }
+
+    @Test
+    @DisplayName("The journal of a game ends with its winner")
+    void testGameJournal() {
+        final GameManagerImpl manager = new GameManagerImpl(
+                factory -> List.of(factory.createFortuitus(1), factory.createImplacabilis(2)),
+                GameEvent.STANDARD, SEED);
+        final BufferedTableListener listener = new BufferedTableListener(MAX_TURNS * CAPACITY);
+        final GameJournal journal = new GameJournal(GameJournal.DEFAULT_CAPACITY);
+        manager.addListener(listener);
+        manager.addListener(journal);
+        manager.init();
+        int turns = 0;
+        while (manager.getWinner().isEmpty() && turns < MAX_TURNS) {
+            manager.executeTurn(manager.nextPlayer().playCard(manager.getLegalMoves()).orElse(null));
+            turns++;
+        }
+
+        final List<TableEvent> events = new ArrayList<>();
+        listener.drainTo(events);
+        final List<TableEvent> tail = events.subList(Math.max(0, events.size() - GameJournal.DEFAULT_CAPACITY),
+                events.size());
+        assertEquals(tail, journal.getRecords());
+        assertEquals(TableEventType.GAME_WON, journal.getRecords().get(journal.getRecords().size() - 1).type());
+        manager.dumpJournal("end of test");
+    }
+
+    @Test
+    @DisplayName("The capacity must be positive")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new GameJournal(0));
+    }
+}
@@ -1,11 +1,16 @@
 package com.primus.model.core;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.CardEffect;
 import com.primus.model.player.Player;
+import com.primus.model.rules.PrecomputedValidator;
+import com.primus.model.search.SearchState;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.GameEvent;
 import com.primus.model.deck.PrimusCard;
 import com.primus.model.deck.Values;
 import com.primus.utils.GameState;
+import com.primus.utils.StateChange;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,16 +18,22 @@ import org.junit.jupiter.api.DisplayName;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class GameManagerImplTest {
 
     private static final int CARD_NUMBER = 7;
+    private static final int MAX_TURNS = 10_000;
+    private static final long SEED = 42L;
+    private static final int COPIED_TURNS = 200;
     private GameManagerImpl gameManager;
 
     @BeforeEach
@@ -57,6 +68,23 @@ class GameManagerImplTest {
         assertNotEquals(firstPlayer, secondPlayer, "Second player should be different from first player");
     }
 
+    @Test
+    @DisplayName("Test legal moves are all accepted")
+    void testLegalMoves() {
+        gameManager.nextPlayer();
+        final List<Card> legalMoves = gameManager.getLegalMoves();
+        final Card top = gameManager.getGameState().topCard();
+
+        legalMoves.forEach(c -> assertTrue(c.isNativeBlack() || c.getColor() == top.getColor()
+                || c.getValue() == top.getValue() || c.hasEffect(CardEffect.ALWAYS_PLAYABLE),
+                "Every legal move should match the top card"));
+        if (!legalMoves.isEmpty()) {
+            final Card move = legalMoves.get(0);
+            assertTrue(gameManager.executeTurn(move.isNativeBlack() ? move.withColor(Color.RED) : move),
+                    "A legal move should be accepted");
+        }
+    }
+
     @Test
     @DisplayName("Test draw card action")
     void testDrawCard() {
@@ -168,4 +196,126 @@ class GameManagerImplTest {
         final Optional<Integer> winner = gameManager.getWinner();
         assertTrue(winner.isEmpty(), "No winner should be present at game start");
     }
+
+    @Test
+    @DisplayName("Test winner is recorded when a valid card empties a hand")
+    void testWinnerRecordedOnLastCard() {
+        final GameManagerImpl manager = new GameManagerImpl(
+                factory -> List.of(factory.createFortuitus(1), factory.createImplacabilis(2)), null, SEED);
+        manager.init();
+        int turns = 0;
+        while (manager.getWinner().isEmpty() && turns < MAX_TURNS) {
+            final Player player = manager.nextPlayer();
+            assertTrue(manager.executeTurn(player.playCard(manager.getLegalMoves()).orElse(null)),
+                    "Legal moves should be accepted");
+            turns++;
+        }
+
+        final Optional<Integer> winner = manager.getWinner();
+        assertTrue(winner.isPresent(), "Game should end with a winner");
+        assertEquals(0, manager.getGameState().playersCardCounts().get(winner.get()).intValue(),
+                "Winner should have no cards left");
+        assertSame(winner, manager.getWinner(), "Winner should be a stored value");
+
+        manager.init();
+        assertTrue(manager.getWinner().isEmpty(), "A new game should have no winner");
+    }
+
+    @Test
+    @DisplayName("Test state snapshots are rebuilt only after changes")
+    void testStateVersioning() {
+        final GameState initial = gameManager.getGameState();
+        assertSame(initial, gameManager.getGameState(), "Unchanged state should be the same snapshot");
+        assertEquals(initial.version(), gameManager.getStateVersion(), "Snapshot should carry the current version");
+
+        gameManager.nextPlayer();
+        final long afterNext = gameManager.getStateVersion();
+        assertEquals(Set.of(StateChange.CURRENT_PLAYER), gameManager.getChangesSince(initial.version()),
+                "Only the current player should change");
+
+        gameManager.executeTurn(null);
+        final Set<StateChange> changes = gameManager.getChangesSince(afterNext);
+        assertTrue(changes.contains(StateChange.CARD_COUNTS), "Drawing should change the card counts");
+        assertFalse(changes.contains(StateChange.TOP_CARD), "Drawing should not change the top card");
+
+        final GameState afterDraw = gameManager.getGameState();
+        assertTrue(afterDraw.version() > afterNext, "Version should increase after a change");
+        assertTrue(gameManager.getChangesSince(afterDraw.version()).isEmpty(), "Nothing should change after reading");
+    }
+
+    @Test
+    @DisplayName("Test captured positions follow the game")
+    void testCopyPosition() {
+        final GameManagerImpl manager = new GameManagerImpl(factory -> List.of(factory.createFortuitus(1),
+                factory.createImplacabilis(2), factory.createFortuitus(3)), null, SEED);
+        manager.init();
+        final PrecomputedValidator rules = PrecomputedValidator.forEvent(manager.getCurrentEvent());
+        final int seats = manager.getGameSetup().size();
+        final SearchState mirror = new SearchState(rules, seats, new SplittableRandom(SEED));
+        final SearchState captured = new SearchState(rules, seats, new SplittableRandom(SEED));
+
+        Player player = manager.nextPlayer();
+        manager.copyPosition(mirror);
+        for (int turn = 0; turn < COPIED_TURNS && manager.getWinner().isEmpty(); turn++) {
+            final Card card = player.playCard(manager.getLegalMoves()).orElse(null);
+            assertTrue(manager.executeTurn(card), "Legal moves should be accepted");
+            mirror.apply(card == null ? SearchState.DRAW : card.getId());
+            if (manager.getWinner().isPresent()) {
+                break;
+            }
+            player = manager.nextPlayer();
+            manager.copyPosition(captured);
+
+            assertEquals(captured.getCurrentSeat(), mirror.getCurrentSeat(), "Both should agree on who moves");
+            assertEquals(captured.getTopCard(), mirror.getTopCard(), "Both should have the same top card");
+            assertEquals(captured.getMalus(), mirror.getMalus(), "Both should have the same malus");
+            assertEquals(captured.getDeckSize(), mirror.getDeckSize(), "Both should have the same deck size");
+            for (int seat = 0; seat < seats; seat++) {
+                assertEquals(captured.getHandSize(seat), mirror.getHandSize(seat), "Hands should match");
+            }
+            mirror.copyFrom(captured);
+        }
+    }
+
+    @Test
+    @DisplayName("Test a refill recycles the same cards in the game and in a captured position")
+    void testRefillMatchesCapturedPosition() {
+        final GameManagerImpl manager = new GameManagerImpl(factory -> List.of(factory.createFortuitus(1),
+                factory.createImplacabilis(2), factory.createFortuitus(3)), GameEvent.STANDARD, SEED);
+        manager.init();
+        final PrecomputedValidator rules = PrecomputedValidator.forEvent(GameEvent.STANDARD);
+        final int seats = manager.getGameSetup().size();
+        final SearchState before = new SearchState(rules, seats, new SplittableRandom(SEED));
+        final SearchState after = new SearchState(rules, seats, new SplittableRandom(SEED));
+        int refills = 0;
+        for (int turn = 0; turn < MAX_TURNS && refills == 0; turn++) {
+            if (manager.getWinner().isPresent()) {
+                manager.init();
+            }
+            final Player player = manager.nextPlayer();
+            manager.copyPosition(before);
+            final int seat = before.getCurrentSeat();
+            final Card card = player.playCard(manager.getLegalMoves()).orElse(null);
+            manager.executeTurn(card);
+            refills = manager.getRefillCount();
+            if (refills > 0) {
+                before.apply(SearchState.DRAW);
+                manager.copyPosition(after);
+                assertEquals(after.getDeckSize(), before.getDeckSize(), "Both should recycle as many cards");
+                assertEquals(after.getTopCard(), before.getTopCard(), "Both should keep the top card");
+                assertEquals(0, before.getRecyclableCount(), "The discard pile should be recycled");
+                assertEquals(after.getHandSize(seat), before.getHandSize(seat), "Both should draw as many cards");
+                final int[] cards = new int[rules.getTable().size()];
+                for (int i = 0; i < after.getDeckSize(); i++) {
+                    cards[after.getDeckCard(i)]++;
+                    cards[before.getDeckCard(i)]--;
+                }
+                for (int id = 0; id < cards.length; id++) {
+                    assertEquals(after.getCount(seat, id) - before.getCount(seat, id), -cards[id],
+                            "Both should draw from the same cards");
+                }
+            }
+        }
+        assertTrue(refills > 0, "A seeded game should refill the deck");
+    }
 }
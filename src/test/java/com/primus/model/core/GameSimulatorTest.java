@@ -0,0 +1,84 @@
+package com.primus.model.core;
+
+import com.primus.metrics.Metrics;
+import com.primus.metrics.MetricsRegistry;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.HumanPlayer;
+import com.primus.model.player.bot.BotLineups;
+import com.primus.utils.SimulationResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSimulatorTest {
+
+    private static final int GAMES = 20;
+    private static final long SEED = 42L;
+
+    @Test
+    @DisplayName("Every simulated game ends with a winner from the lineup")
+    void testGamesHaveWinner() {
+        final GameSimulator simulator = new GameSimulatorImpl(BotLineups::heuristicBots);
+        for (int i = 0; i < GAMES; i++) {
+            final SimulationResult result = simulator.play();
+            assertTrue(result.hasWinner(), "Game should end with a winner");
+            assertTrue(List.of(1, 2, 3).contains(result.winnerId()), "Winner should belong to the lineup");
+            assertTrue(result.turns() > 0, "At least one turn should be played");
+            assertTrue(result.refills() >= 0, "Refill count should be non-negative");
+        }
+    }
+
+    @Test
+    @DisplayName("A fixed event is used for every game")
+    void testFixedEvent() {
+        final GameSimulator simulator = new GameSimulatorImpl(BotLineups::heuristicBots,
+                GameEvent.TOTAL_CHAOS, GameSimulatorImpl.DEFAULT_MAX_TURNS);
+        assertEquals(GameEvent.TOTAL_CHAOS, simulator.play().event());
+    }
+
+    @Test
+    @DisplayName("The same seed replays the same games")
+    void testSeedReplaysGames() {
+        final GameSimulator first = new GameSimulatorImpl(BotLineups::heuristicBots, null,
+                GameSimulatorImpl.DEFAULT_MAX_TURNS, SEED);
+        final GameSimulator second = new GameSimulatorImpl(BotLineups::heuristicBots, null,
+                GameSimulatorImpl.DEFAULT_MAX_TURNS, SEED);
+        for (int i = 0; i < GAMES; i++) {
+            assertEquals(first.play(), second.play(), "Games with the same seed should have the same result");
+        }
+    }
+
+    @Test
+    @DisplayName("Turn limit interrupts the game without a winner")
+    void testTurnLimit() {
+        final GameSimulator simulator = new GameSimulatorImpl(BotLineups::heuristicBots, GameEvent.STANDARD, 1);
+        final SimulationResult result = simulator.play();
+        assertEquals(1, result.turns());
+        assertEquals(SimulationResult.NO_WINNER, result.winnerId());
+    }
+
+    @Test
+    @DisplayName("Turns and bot decisions are recorded by the shared metrics")
+    void testMetricsRecorded() {
+        final MetricsRegistry metrics = Metrics.getRegistry();
+        final long turns = metrics.histogram(Metrics.TURN_LATENCY).getCount();
+        final long decisions = metrics.histogram(Metrics.BOT_DECISION_PREFIX + "AggressiveStrategy").getCount();
+        final SimulationResult result = new GameSimulatorImpl(BotLineups::heuristicBots).play();
+        assertTrue(metrics.histogram(Metrics.TURN_LATENCY).getCount() - turns >= result.turns());
+        assertTrue(metrics.histogram(Metrics.BOT_DECISION_PREFIX + "AggressiveStrategy").getCount() > decisions);
+    }
+
+    @Test
+    @DisplayName("Human players cannot be simulated")
+    void testHumanRejected() {
+        final GameSimulator simulator = new GameSimulatorImpl(f -> List.of(new HumanPlayer(1, "You"),
+                f.createFortuitus(2)));
+        assertThrows(IllegalStateException.class, simulator::play);
+    }
+}
@@ -0,0 +1,90 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Player;
+import com.primus.utils.TableEvent;
+import com.primus.utils.TableEventType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableListenerTest {
+
+    private static final int CAPACITY = 100_000;
+    private static final int CARD_NUMBER = 7;
+    private static final int MAX_TURNS = 10_000;
+    private static final long SEED = 7L;
+
+    private GameManagerImpl manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameManagerImpl(factory -> List.of(factory.createFortuitus(1), factory.createImplacabilis(2)),
+                GameEvent.TOTAL_CHAOS, SEED);
+    }
+
+    private void playGame() {
+        manager.init();
+        int turns = 0;
+        while (manager.getWinner().isEmpty() && turns < MAX_TURNS) {
+            final Player player = manager.nextPlayer();
+            manager.executeTurn(player.playCard(manager.getLegalMoves()).orElse(null));
+            turns++;
+        }
+    }
+
+    @Test
+    @DisplayName("Events describe the whole game, from the deal to the winner")
+    void testEventsDescribeGame() {
+        final BufferedTableListener listener = new BufferedTableListener(CAPACITY);
+        manager.addListener(listener);
+        playGame();
+
+        final List<TableEvent> events = new ArrayList<>();
+        listener.drainTo(events);
+        assertEquals(0, listener.getDroppedCount(), "No event should be dropped");
+        assertEquals(TableEventType.GAME_STARTED, events.get(0).type(), "The game start should come first");
+        assertEquals(GameEvent.TOTAL_CHAOS, events.get(0).gameEvent(), "The game event should be reported");
+
+        final TableEvent last = events.get(events.size() - 1);
+        assertEquals(TableEventType.GAME_WON, last.type(), "The winner should come last");
+        assertEquals(manager.getWinner().orElseThrow().intValue(), last.playerId(), "The winner should match");
+
+        // Cards held at the end = cards dealt + cards drawn - cards played
+        final int drawn = events.stream().filter(e -> e.type() == TableEventType.CARDS_DRAWN)
+                .mapToInt(TableEvent::amount).sum();
+        final long played = events.stream().filter(e -> e.type() == TableEventType.CARD_PLAYED).count();
+        final int held = manager.getGameState().playersCardCounts().values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(2 * CARD_NUMBER + drawn - played, held, "Draw and play events should account for every card");
+    }
+
+    @Test
+    @DisplayName("A full buffer drops new events and counts them")
+    void testBufferDropsWhenFull() {
+        final BufferedTableListener listener = new BufferedTableListener(1);
+        manager.addListener(listener);
+        playGame();
+
+        assertEquals(1, listener.size(), "Only one event should be buffered");
+        assertTrue(listener.getDroppedCount() > 0, "The other events should be counted as dropped");
+        assertEquals(TableEventType.GAME_STARTED, listener.poll().orElseThrow().type(), "The oldest event should be kept");
+    }
+
+    @Test
+    @DisplayName("Removed listeners are no longer notified")
+    void testRemoveListener() {
+        final BufferedTableListener listener = new BufferedTableListener(CAPACITY);
+        manager.addListener(listener);
+        manager.removeListener(listener);
+        playGame();
+
+        assertEquals(0, listener.size(), "A removed listener should receive nothing");
+    }
+}
@@ -0,0 +1,78 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.bot.BotLineups;
+import com.primus.utils.TournamentResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TournamentRunnerTest {
+
+    private static final int GAMES = 40;
+    private static final int THREADS = 4;
+    private static final long SEED = 7L;
+
+    @Test
+    @DisplayName("Every game of the tournament is accounted for")
+    void testAllGamesCounted() {
+        final TournamentRunner runner = new TournamentRunnerImpl(BotLineups::heuristicBots,
+                GameEvent.STANDARD, THREADS);
+        final TournamentResult result = runner.run(GAMES);
+
+        final long wins = result.winsOf(1) + result.winsOf(2) + result.winsOf(3);
+        assertEquals(GAMES, result.games());
+        assertEquals(GAMES, wins + result.unfinished(), "Every game should end with a win or be unfinished");
+        assertTrue(result.totalTurns() >= GAMES, "Every game should last at least one turn");
+        assertEquals(GameEvent.STANDARD, result.event());
+    }
+
+    @Test
+    @DisplayName("A seeded run gives the same result whatever the thread count")
+    void testSeededRunIsDeterministic() {
+        final TournamentResult sequential = new TournamentRunnerImpl(BotLineups::heuristicBots,
+                GameEvent.TOTAL_CHAOS, 1).run(GAMES, SEED);
+        final TournamentResult parallel = new TournamentRunnerImpl(BotLineups::heuristicBots,
+                GameEvent.TOTAL_CHAOS, THREADS).run(GAMES, SEED);
+        assertEquals(sequential, parallel, "Seeded runs should not depend on the number of threads");
+    }
+
+    @Test
+    @DisplayName("Runs with adjacent seeds do not share their games")
+    void testAdjacentSeedsDoNotOverlap() {
+        final Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < GAMES; i++) {
+            seeds.add(TournamentRunnerImpl.gameSeed(SEED, i));
+        }
+        for (int i = 0; i < GAMES; i++) {
+            assertFalse(seeds.contains(TournamentRunnerImpl.gameSeed(SEED + 1, i)),
+                    "Game " + i + " of the next seed should not be replayed");
+        }
+    }
+
+    @Test
+    @DisplayName("An empty tournament has no results")
+    void testEmptyTournament() {
+        final TournamentResult result = new TournamentRunnerImpl(BotLineups::heuristicBots,
+                GameEvent.STANDARD).run(0);
+        assertEquals(0, result.games());
+        assertTrue(result.wins().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TournamentRunnerImpl(BotLineups::heuristicBots,
+                GameEvent.STANDARD, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TournamentRunnerImpl(BotLineups::heuristicBots,
+                GameEvent.STANDARD).run(-1));
+    }
+}
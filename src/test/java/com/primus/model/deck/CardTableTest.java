@@ -0,0 +1,67 @@
+package com.primus.model.deck;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CardTableTest {
+
+    private List<Card> cards;
+    private CardTable table;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cards = new DeckFileReader().loadDeck(GameEvent.STANDARD.getFileName());
+        table = CardTable.of(cards);
+    }
+
+    @Test
+    @DisplayName("IDs are dense and identify the canonical instances")
+    void testDenseIds() {
+        for (int id = 0; id < table.size(); id++) {
+            assertEquals(id, table.get(id).getId(), "Card must be stored at its own ID");
+        }
+    }
+
+    @Test
+    @DisplayName("Copies of the same card loaded from file are the same instance")
+    void testLoadedCardsAreInterned() {
+        final Card first = cards.stream().filter(c -> c.getValue() == Values.WILD).findFirst().orElseThrow();
+        cards.stream()
+                .filter(c -> c.getValue() == Values.WILD)
+                .forEach(c -> assertSame(first, c, "Every Wild card should share one instance"));
+        assertTrue(first.getId() >= 0, "Loaded cards should have an ID");
+    }
+
+    @Test
+    @DisplayName("withColor on a Wild card returns the interned variant")
+    void testWithColorIsInterned() {
+        final Card wild = table.intern(new PrimusCard(Color.BLACK, Values.WILD));
+        final Card red = wild.withColor(Color.RED);
+
+        assertSame(red, wild.withColor(Color.RED), "Recoloring twice must not allocate a new card");
+        assertSame(wild, red.withColor(Color.BLACK), "Going back to BLACK must return the original card");
+        assertEquals(Color.RED, red.getColor());
+        assertNotEquals(wild.getId(), red.getId(), "Variants must have their own ID");
+    }
+
+    @Test
+    @DisplayName("Cards outside the table are equal to their canonical instance")
+    void testForeignCardEquality() {
+        final Card foreign = new PrimusCard(Color.BLUE, Values.FIVE);
+        final Card interned = table.intern(foreign);
+
+        assertEquals(foreign, interned);
+        assertEquals(foreign.hashCode(), interned.hashCode());
+        assertEquals(Card.NO_ID, foreign.getId());
+        assertSame(interned, table.intern(interned));
+    }
+}
@@ -0,0 +1,59 @@
+package com.primus.model.deck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeckTemplateTest {
+
+    private static final int EXTRA_SLOTS = 4;
+
+    @Test
+    @DisplayName("Each configuration file is parsed once and then shared")
+    void testTemplateIsCached() {
+        for (final GameEvent event : GameEvent.values()) {
+            final DeckTemplate template = DeckTemplate.forEvent(event);
+
+            assertSame(template, DeckTemplate.forFile(event.getFileName()), "Template must be cached per file");
+            assertEquals(event.getFileName(), template.getFileName(), "Template must remember its file");
+        }
+    }
+
+    @Test
+    @DisplayName("Template cards are interned in the template's table")
+    void testCardsAreInterned() {
+        final DeckTemplate template = DeckTemplate.forEvent(GameEvent.STANDARD);
+
+        for (final Card card : template.getCards()) {
+            assertSame(template.getTable().get(card.getId()), card, "Template cards must be canonical");
+        }
+    }
+
+    @Test
+    @DisplayName("Copies are independent from the template and reuse large enough arrays")
+    void testCopyInto() {
+        final DeckTemplate template = DeckTemplate.forEvent(GameEvent.STANDARD);
+        final Card[] copy = template.copyInto(null);
+
+        assertEquals(template.size(), copy.length, "A new array must fit the deck exactly");
+        copy[0] = null;
+        assertEquals(template.getCards().get(0), template.copyInto(null)[0], "Copies must not alter the template");
+
+        final Card[] reused = new Card[template.size() + EXTRA_SLOTS];
+        reused[reused.length - 1] = template.getCards().get(0);
+        assertSame(reused, template.copyInto(reused), "Large enough arrays must be reused");
+        assertNull(reused[reused.length - 1], "Slots after the deck must be cleared");
+        assertNotSame(copy, template.copyInto(new Card[1]), "Small arrays must be replaced");
+    }
+
+    @Test
+    @DisplayName("Missing configuration files are rejected")
+    void testMissingFile() {
+        assertThrows(IllegalArgumentException.class, () -> DeckTemplate.forFile("missing_deck.csv"));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +35,8 @@ class PrimusDeckTest {
     private static final int BOOSTED_DRAW_FOUR = 8;
 
     private static final int DROP_PILE_REFILL_SIZE = 10;
+    private static final int BULK_DRAW = 8;
+    private static final int REMAINING_CARDS = 3;
 
     private PrimusDeck deck;
     private PrimusDropPile dropPile;
@@ -115,6 +118,90 @@ class PrimusDeckTest {
         assertFalse(deck.isEmpty());
     }
 
+    @Test
+    @DisplayName("Integration: Refill turns played Wild cards back to BLACK")
+    void testRefillResetsWildColor() {
+        while (!deck.isEmpty()) {
+            deck.drawCard();
+        }
+
+        dropPile.addCard(new PrimusCard(Color.BLACK, Values.WILD).withColor(Color.RED));
+        dropPile.addCard(new PrimusCard(Color.GREEN, Values.ONE));
+
+        deck.refillFrom(dropPile);
+
+        assertEquals(Color.BLACK, deck.drawCard().getColor(), "Recycled Wild card must lose its declared color");
+    }
+
+    @Test
+    @DisplayName("Refill should recycle the whole pile and leave it usable")
+    void testRefillRecyclesWholePile() {
+        final int total = deck.size();
+        final Card last = new PrimusCard(Color.BLUE, Values.NINE);
+        while (!deck.isEmpty()) {
+            dropPile.addCard(deck.drawCard());
+        }
+        dropPile.addCard(last);
+
+        deck.refillFrom(dropPile);
+
+        assertEquals(total, deck.size(), "Every card but the top one must go back to the deck");
+        assertEquals(last, dropPile.peek(), "Top card must remain on the discard pile");
+        dropPile.addCard(deck.drawCard());
+        assertEquals(total - 1, deck.size(), "Deck must keep drawing after a refill");
+        assertNotSame(last, dropPile.peek(), "Discard pile must accept cards after a refill");
+    }
+
+    @Test
+    @DisplayName("Refilling a deck still holding cards shuffles them with the recycled pile")
+    void testRefillNonEmptyDeck() {
+        final int total = deck.size();
+        while (deck.size() > REMAINING_CARDS) {
+            dropPile.addCard(deck.drawCard());
+        }
+        final List<Card> remaining = new ArrayList<>();
+        for (int i = 0; i < REMAINING_CARDS; i++) {
+            remaining.add(deck.getCard(i));
+        }
+        final Card wild = new PrimusCard(Color.BLACK, Values.WILD).withColor(Color.RED);
+        final Card top = new PrimusCard(Color.BLUE, Values.NINE);
+        dropPile.addCard(wild);
+        dropPile.addCard(top);
+
+        deck.refillFrom(dropPile);
+
+        // The deck now also holds the Wild card added to the pile
+        final int refilled = total + 1;
+        assertEquals(refilled, deck.size(), "Every card but the top one must be in the deck");
+        assertEquals(1, dropPile.size(), "Only the top card must remain on the discard pile");
+        assertEquals(top, dropPile.peek(), "Top card must remain on the discard pile");
+        final List<Card> refilledCards = new ArrayList<>();
+        for (int i = 0; i < refilled; i++) {
+            assertNotNull(deck.getCard(i), "Recycled cards must fill the deck");
+            refilledCards.add(deck.getCard(i));
+        }
+        for (final Card card : remaining) {
+            assertTrue(refilledCards.remove(card), "Cards left in the deck must be shuffled with the others");
+        }
+        assertTrue(refilledCards.contains(wild.withColor(Color.BLACK)),
+                "Recycled Wild card must lose its declared color");
+    }
+
+    @Test
+    @DisplayName("Drawing several cards removes them from the top in one operation")
+    void testDrawCards() {
+        final int total = deck.size();
+        final List<Card> drawn = deck.drawCards(BULK_DRAW);
+
+        assertEquals(BULK_DRAW, drawn.size(), "Exactly the requested cards must be drawn");
+        assertEquals(total - BULK_DRAW, deck.size(), "Drawn cards must leave the deck");
+        assertTrue(deck.drawCards(0).isEmpty(), "Drawing no cards must return an empty list");
+        assertThrows(IllegalStateException.class, () -> deck.drawCards(deck.size() + 1),
+                "Drawing more cards than available must fail");
+        assertThrows(IllegalArgumentException.class, () -> deck.drawCards(-1),
+                "A negative count must be rejected");
+    }
+
     // --- Events Tests ---
 
     @Test
@@ -215,6 +302,21 @@ class PrimusDeckTest {
         assertTrue(chaosCard.hasEffect(CardEffect.ALWAYS_PLAYABLE));
     }
 
+    @Test
+    @DisplayName("Effect mask: effects are packed in a single int")
+    void testEffectMask() {
+        final Card card = new PrimusCard(Color.RED, Values.SEVEN, 0,
+                CardEffect.SKIP_NEXT.mask() | CardEffect.ALWAYS_PLAYABLE.mask());
+
+        assertTrue(card.hasEffect(CardEffect.SKIP_NEXT));
+        assertTrue(card.hasEffect(CardEffect.ALWAYS_PLAYABLE));
+        assertFalse(card.hasEffect(CardEffect.REVERSE_TURN));
+        assertEquals(EnumSet.of(CardEffect.SKIP_NEXT, CardEffect.ALWAYS_PLAYABLE),
+                CardEffect.fromMask(card.getEffectMask()));
+        assertEquals(card, new PrimusCard(Color.RED, Values.SEVEN, 0,
+                EnumSet.of(CardEffect.SKIP_NEXT, CardEffect.ALWAYS_PLAYABLE)), "Set and mask constructors must agree");
+    }
+
     @Test
     @DisplayName("Immutability: withColor must copy properties")
     void testWitherMaintainsDataDrivenProperties() {
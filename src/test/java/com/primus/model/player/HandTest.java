@@ -0,0 +1,128 @@
+package com.primus.model.player;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.PrimusCard;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandTest {
+
+    private static final long SEED = 42L;
+    private static final int OPERATIONS = 2000;
+
+    private Hand hand;
+    private CardTable table;
+
+    @BeforeEach
+    void setUp() {
+        hand = new Hand();
+        table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+    }
+
+    private Card interned(final Color color, final Values value) {
+        return table.intern(new PrimusCard(color, value));
+    }
+
+    @Test
+    @DisplayName("Counts follow additions and removals")
+    void testCounts() {
+        final Card redOne = interned(Color.RED, Values.ONE);
+        final Card wild = interned(Color.BLACK, Values.WILD);
+        hand.addAll(List.of(redOne, wild, redOne));
+
+        assertEquals(3, hand.size(), "Hand should hold three cards");
+        assertEquals(2, hand.countOf(Color.RED), "Hand should hold two red cards");
+        assertEquals(1, hand.countOf(Color.BLACK), "Wild cards should count as black");
+        assertEquals(2, hand.countOf(Values.ONE), "Hand should hold two ones");
+        assertEquals(2, hand.countOf(redOne), "Hand should hold two copies of the red one");
+
+        assertTrue(hand.remove(redOne), "A held card should be removed");
+        assertTrue(hand.contains(redOne), "The second copy should still be held");
+        assertEquals(1, hand.countOf(Color.RED), "One red card should remain");
+        assertEquals(1, hand.countOf(redOne), "One copy should remain");
+        assertTrue(hand.remove(redOne), "The second copy should be removed");
+        assertFalse(hand.contains(redOne), "No copy should remain");
+        assertFalse(hand.remove(redOne), "Removing a missing card should fail");
+    }
+
+    @Test
+    @DisplayName("Removing a card keeps the order of the others")
+    void testRemovalKeepsOrder() {
+        final Card redOne = interned(Color.RED, Values.ONE);
+        final Card blueTwo = interned(Color.BLUE, Values.TWO);
+        final Card wild = interned(Color.BLACK, Values.WILD);
+        hand.addAll(List.of(redOne, blueTwo, redOne, wild));
+
+        assertTrue(hand.remove(redOne));
+        assertEquals(List.of(blueTwo, redOne, wild), hand.asList(), "The first copy should be removed");
+        assertTrue(hand.remove(blueTwo));
+        assertEquals(List.of(redOne, wild), hand.asList(), "The remaining cards should keep their order");
+    }
+
+    @Test
+    @DisplayName("Cards created outside the table are found by equality")
+    void testForeignCards() {
+        hand.add(interned(Color.BLUE, Values.TWO));
+        final Card foreign = new PrimusCard(Color.GREEN, Values.FIVE);
+        hand.add(foreign);
+
+        assertTrue(hand.contains(new PrimusCard(Color.BLUE, Values.TWO)), "Equal cards should be found");
+        assertTrue(hand.remove(new PrimusCard(Color.BLUE, Values.TWO)), "Equal cards should be removed");
+        assertTrue(hand.remove(foreign), "Foreign cards should be removed");
+        assertTrue(hand.isEmpty(), "Hand should be empty");
+    }
+
+    @Test
+    @DisplayName("The view is live and read-only")
+    void testView() {
+        final List<Card> view = hand.asList();
+        final Card card = interned(Color.YELLOW, Values.NINE);
+        hand.add(card);
+
+        assertSame(view, hand.asList(), "The view should be created once");
+        assertEquals(List.of(card), view, "The view should reflect changes");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(card), "The view should be read-only");
+    }
+
+    @Test
+    @DisplayName("Random additions and removals match a plain list, order included")
+    void testMatchesList() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final List<Card> reference = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            final Card card = table.get(random.nextInt(table.size()));
+            if (random.nextBoolean()) {
+                hand.add(card);
+                reference.add(card);
+            } else {
+                assertEquals(reference.remove(card), hand.remove(card), "Removal outcome should match");
+            }
+            assertEquals(reference.size(), hand.size(), "Sizes should match");
+        }
+        assertEquals(reference, hand.asList(), "Both should hold the same cards in the same order");
+        for (final Color color : Color.values()) {
+            assertEquals(reference.stream().filter(c -> c.getColor() == color).count(), hand.countOf(color),
+                    "Color counts should match");
+        }
+        for (final Values value : Values.values()) {
+            assertEquals(reference.stream().filter(c -> c.getValue() == value).count(), hand.countOf(value),
+                    "Value counts should match");
+        }
+    }
+}
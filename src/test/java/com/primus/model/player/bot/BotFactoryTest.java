@@ -5,7 +5,9 @@ import com.primus.model.player.Player;
 import com.primus.model.player.bot.strategy.card.AggressiveStrategy;
 import com.primus.model.player.bot.strategy.card.CardStrategy;
 import com.primus.model.player.bot.strategy.card.CheaterStrategy;
+import com.primus.model.player.bot.strategy.card.IsmctsStrategy;
 import com.primus.model.player.bot.strategy.card.RandomStrategy;
+import com.primus.model.player.bot.strategy.color.IsmctsColorStrategy;
 import com.primus.model.player.bot.strategy.color.MostFrequentColorStrategy;
 import com.primus.model.player.bot.strategy.color.RandomColorStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -80,4 +82,22 @@ class BotFactoryTest {
         assertTrue(actualColorStrategy instanceof MostFrequentColorStrategy,
                 "Fallax bot should have MostFrequentColorStrategy injected");
     }
+
+    @Test
+    void testCreateSapiens() throws NoSuchFieldException, IllegalAccessException {
+        final int botId = 77;
+        final Player player = factory.createSapiens(botId);
+        assertTrue(player instanceof Bot, "Factory should return a Bot instance for Sapiens");
+        final Bot bot = (Bot) player;
+        final Field cardStrategyField = Bot.class.getDeclaredField(CARD_STRATEGY_FIELD);
+        cardStrategyField.setAccessible(true); //NOPMD - Reflection required to verify internal dependency injection
+        final CardStrategy actualCardStrategy = (CardStrategy) cardStrategyField.get(bot);
+        assertTrue(actualCardStrategy instanceof IsmctsStrategy,
+                "Sapiens bot should have IsmctsStrategy injected");
+        final Field colorStrategyField = Bot.class.getDeclaredField(COLOR_STRATEGY_FIELD);
+        colorStrategyField.setAccessible(true); //NOPMD - Reflection required to verify internal dependency injection
+        final Object actualColorStrategy = colorStrategyField.get(bot);
+        assertTrue(actualColorStrategy instanceof IsmctsColorStrategy,
+                "Sapiens bot should have IsmctsColorStrategy injected");
+    }
 }
@@ -0,0 +1,26 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.player.Player;
+
+import java.util.List;
+
+/**
+ * Bot lineups shared by the tests that play whole games.
+ */
+public final class BotLineups {
+
+    private BotLineups() {
+    }
+
+    /**
+     * Seats one bot of each heuristic personality: Fortuitus (ID 1), Implacabilis (ID 2) and Fallax (ID 3),
+     * whose victim is Fortuitus.
+     *
+     * @param factory the factory of the game the bots are created for
+     * @return the three bots, in seat order
+     */
+    public static List<Player> heuristicBots(final BotFactory factory) {
+        final Player fortuitus = factory.createFortuitus(1);
+        return List.of(fortuitus, factory.createImplacabilis(2), factory.createFallax(3, fortuitus));
+    }
+}
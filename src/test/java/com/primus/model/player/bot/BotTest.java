@@ -68,6 +68,16 @@ class BotTest {
         assertEquals(Color.RED, playedCard.get().getColor(), "Bot should apply color strategy (RED) to wild card");
     }
 
+    @Test
+    void testPlayCardAmongLegalMoves() {
+        final Card illegal = card(Color.BLUE, Values.ONE);
+        final Card legal = card(Color.GREEN, Values.TWO);
+        bot.addCards(List.of(illegal, legal));
+        final Optional<Card> playedCard = bot.playCard(List.of(legal));
+        assertEquals(Optional.of(legal), playedCard, "Bot should only choose among the legal moves");
+        assertTrue(bot.playCard(List.of()).isEmpty(), "Bot should pass turn when there are no legal moves");
+    }
+
     @Test
     void testPlayCardPassTurn() {
         final Optional<Card> playedCard = bot.playCard();
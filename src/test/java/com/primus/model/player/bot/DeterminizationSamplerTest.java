@@ -0,0 +1,111 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.rules.PrecomputedValidator;
+import com.primus.model.search.SearchState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeterminizationSamplerTest {
+
+    private static final int SELF = 1;
+    private static final int OPPONENT = 2;
+    private static final int OTHER = 3;
+    private static final int OPPONENT_CARDS = 7;
+    private static final int SAMPLES = 200;
+    private static final long SEED = 5L;
+
+    private final CardTable table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+    private final PrecomputedValidator rules = PrecomputedValidator.forEvent(GameEvent.STANDARD);
+    private List<Card> hand;
+    private Card top;
+    private TableObservation observation;
+
+    private Card card(final Color color, final Values value) {
+        for (int id = 0; id < table.size(); id++) {
+            if (table.get(id).getColor() == color && table.get(id).getValue() == value) {
+                return table.get(id);
+            }
+        }
+        throw new IllegalArgumentException("No " + color + " " + value + " in the table");
+    }
+
+    @BeforeEach
+    void setUp() {
+        hand = List.of(card(Color.RED, Values.FIVE), card(Color.BLUE, Values.TWO), card(Color.GREEN, Values.NINE));
+        top = card(Color.RED, Values.ONE);
+        observation = new TableObservation(SELF, hand);
+        observation.onGameStarted(GameEvent.STANDARD, top);
+        observation.onPlayerSeated(SELF, hand.size(), true);
+        observation.onPlayerSeated(OPPONENT, OPPONENT_CARDS, true);
+        observation.onPlayerSeated(OTHER, OPPONENT_CARDS, true);
+    }
+
+    @Test
+    @DisplayName("Nothing can be sampled before the game is observed")
+    void testNotReady() {
+        final DeterminizationSampler sampler = new DeterminizationSampler(
+                new TableObservation(SELF, hand), new SplittableRandom(SEED));
+        assertFalse(sampler.prepare(), "No game has been observed");
+        assertThrows(IllegalStateException.class, sampler::getRoot);
+    }
+
+    @Test
+    @DisplayName("Samples keep the known cards and the observed hand sizes")
+    void testSampleMatchesObservation() {
+        final DeterminizationSampler sampler = new DeterminizationSampler(observation, new SplittableRandom(SEED));
+        assertTrue(sampler.prepare());
+        final int deckSize = DeckTemplate.forEvent(GameEvent.STANDARD).getCards().size();
+        assertEquals(deckSize - hand.size() - 1, sampler.getUnseenCount(), "Hand and top card are seen");
+
+        final SearchState world = new SearchState(rules, observation.getSeatCount(), new SplittableRandom(SEED));
+        for (int i = 0; i < SAMPLES; i++) {
+            sampler.sample(world);
+            assertEquals(hand.size(), world.getHandSize(0));
+            for (final Card card : hand) {
+                assertEquals(1, world.getCount(0, card.getId()), "The own hand is never dealt again");
+            }
+            assertEquals(OPPONENT_CARDS, world.getHandSize(1));
+            assertEquals(OPPONENT_CARDS, world.getHandSize(2));
+            assertEquals(sampler.getUnseenCount() - 2 * OPPONENT_CARDS, world.getDeckSize());
+            assertEquals(top.getId(), world.getTopCard());
+            assertEquals(0, world.getCurrentSeat(), "The bot is the seat to move");
+        }
+    }
+
+    @Test
+    @DisplayName("An opponent that drew instead of playing is not dealt playable cards")
+    void testDrawExcludesPlayableCards() {
+        observation.onCardsDrawn(OPPONENT, 1);
+        final DeterminizationSampler sampler = new DeterminizationSampler(observation, new SplittableRandom(SEED));
+        assertTrue(sampler.prepare());
+
+        final SearchState world = new SearchState(rules, observation.getSeatCount(), new SplittableRandom(SEED));
+        for (int i = 0; i < SAMPLES; i++) {
+            sampler.sample(world);
+            assertEquals(OPPONENT_CARDS + 1, world.getHandSize(1));
+            int playable = 0;
+            for (int id = 0; id < table.size(); id++) {
+                // Wild cards of any declared color count as the held Wild card
+                if (observation.holdIdOf(id) == id && rules.canPlay(top.getId(), id)) {
+                    playable += world.getCount(1, id);
+                }
+            }
+            assertTrue(playable <= 1, "Only the drawn card may match the top card, found " + playable);
+        }
+    }
+}
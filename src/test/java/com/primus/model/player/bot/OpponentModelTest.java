@@ -0,0 +1,130 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpponentModelTest {
+
+    private static final int SELF = 1;
+    private static final int OPPONENT = 2;
+    private static final int HUMAN = 4;
+    private static final int CARDS = 7;
+    private static final int MALUS = 2;
+
+    private final CardTable table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+    private TableObservation observation;
+    private OpponentModel model;
+    private OpponentView opponent;
+
+    private Card card(final Color color, final Values value) {
+        for (int id = 0; id < table.size(); id++) {
+            if (table.get(id).getColor() == color && table.get(id).getValue() == value) {
+                return table.get(id);
+            }
+        }
+        throw new IllegalArgumentException("No " + color + " " + value + " in the table");
+    }
+
+    @BeforeEach
+    void setUp() {
+        observation = new TableObservation(SELF, List.of());
+        model = new OpponentModel(observation);
+        opponent = model.viewOf(OPPONENT);
+        observation.onGameStarted(GameEvent.STANDARD, card(Color.RED, Values.FIVE));
+        observation.onPlayerSeated(SELF, CARDS, true);
+        observation.onPlayerSeated(OPPONENT, CARDS, true);
+        observation.onPlayerSeated(HUMAN, CARDS, false);
+    }
+
+    @Test
+    @DisplayName("Views of players not seated know nothing")
+    void testUnseatedView() {
+        final OpponentView stranger = model.viewOf(OPPONENT + 1);
+        assertEquals(0, stranger.getHandSize());
+        assertEquals(0, stranger.getHistoryLength());
+        assertFalse(stranger.lacksColor(Color.RED));
+        assertThrows(IndexOutOfBoundsException.class, () -> stranger.getHandSizeAt(0));
+    }
+
+    @Test
+    @DisplayName("The hand-size history follows deals, draws and plays")
+    void testHistory() {
+        observation.onCardsDrawn(OPPONENT, 1);
+        observation.onCardPlayed(OPPONENT, card(Color.BLUE, Values.FIVE));
+        observation.onCardPlayed(SELF, card(Color.BLUE, Values.SIX));
+
+        assertEquals(CARDS, opponent.getHandSize());
+        assertEquals(3, opponent.getHistoryLength());
+        assertEquals(CARDS, opponent.getHandSizeAt(0));
+        assertEquals(CARDS + 1, opponent.getHandSizeAt(1));
+        assertEquals(CARDS, opponent.getHandSizeAt(2));
+    }
+
+    @Test
+    @DisplayName("Drawing instead of matching reveals the missing colors and values")
+    void testDrawRevealsVoids() {
+        assertFalse(opponent.lacksColor(Color.RED), "Nothing is known before the first draw");
+        assertEquals(CARDS, opponent.getUnknownCount(), "Every card may be anything before the first draw");
+
+        observation.onCardsDrawn(OPPONENT, 1);
+        assertTrue(opponent.lacksColor(Color.RED), "Any red card could have been played");
+        assertTrue(opponent.lacksColor(Color.BLACK), "Any Wild card could have been played");
+        assertTrue(opponent.lacksValue(Values.FIVE), "Any five could have been played");
+        assertFalse(opponent.lacksColor(Color.BLUE), "A blue card may not match a red five");
+        assertFalse(opponent.lacksValue(Values.SKIP), "A blue skip does not match a red five");
+        assertEquals(1, opponent.getUnknownCount(), "The drawn card may be anything");
+
+        observation.onCardPlayed(OPPONENT, card(Color.BLUE, Values.SEVEN));
+        assertEquals(1, opponent.getUnknownCount(), "Every card played may have been a constrained one");
+        assertTrue(opponent.lacksColor(Color.RED), "The remaining constrained cards still lack red");
+    }
+
+    @Test
+    @DisplayName("The evidence is forgotten once every constrained card may have been played")
+    void testEvidenceFades() {
+        observation.onCardsDrawn(OPPONENT, 1);
+        for (int i = 0; i < CARDS; i++) {
+            observation.onCardPlayed(OPPONENT, card(Color.BLUE, Values.SEVEN));
+        }
+        assertFalse(opponent.lacksColor(Color.RED));
+        assertEquals(1, opponent.getUnknownCount());
+    }
+
+    @Test
+    @DisplayName("Accepting a malus reveals the missing defenses")
+    void testMalusRevealsMissingDefense() {
+        observation.onCardPlayed(SELF, card(Color.RED, Values.DRAW_TWO));
+        observation.onMalusAccumulated(SELF, MALUS);
+        observation.onCardsDrawn(OPPONENT, MALUS);
+        observation.onMalusResolved(OPPONENT, MALUS);
+
+        assertTrue(opponent.lacksValue(Values.DRAW_TWO), "Any draw two could have defended");
+        assertFalse(opponent.lacksColor(Color.RED), "A red five does not defend against a draw two");
+        assertEquals(MALUS, opponent.getUnknownCount());
+    }
+
+    @Test
+    @DisplayName("A human drawing reveals nothing, since humans may draw by choice")
+    void testHumanDrawRevealsNothing() {
+        final OpponentView human = model.viewOf(HUMAN);
+        observation.onCardsDrawn(HUMAN, 1);
+
+        assertFalse(human.lacksColor(Color.RED));
+        assertFalse(human.lacksValue(Values.FIVE));
+        assertEquals(CARDS + 1, human.getUnknownCount());
+    }
+}
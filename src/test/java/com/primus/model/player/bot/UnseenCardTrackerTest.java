@@ -0,0 +1,116 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.player.Hand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnseenCardTrackerTest {
+
+    private static final int SELF = 1;
+    private static final int OPPONENT = 2;
+
+    private final DeckTemplate template = DeckTemplate.forEvent(GameEvent.STANDARD);
+    private final CardTable table = template.getTable();
+    private Hand hand;
+    private TableObservation observation;
+    private UnseenCardTracker tracker;
+
+    private Card card(final Color color, final Values value) {
+        for (int id = 0; id < table.size(); id++) {
+            if (table.get(id).getColor() == color && table.get(id).getValue() == value) {
+                return table.get(id);
+            }
+        }
+        throw new IllegalArgumentException("No " + color + " " + value + " in the table");
+    }
+
+    private int deckCount(final Color color) {
+        return (int) template.getCards().stream().filter(c -> c.getColor() == color).count();
+    }
+
+    @BeforeEach
+    void setUp() {
+        hand = new Hand();
+        observation = new TableObservation(SELF, hand.asList());
+        tracker = new UnseenCardTracker(observation, hand);
+    }
+
+    @Test
+    @DisplayName("Nothing is counted before the game starts")
+    void testNotReady() {
+        assertFalse(tracker.isReady());
+        assertEquals(0, tracker.getUnseenTotal());
+        assertEquals(0, tracker.getUnseenCount(Color.RED));
+    }
+
+    @Test
+    @DisplayName("The own hand and the discard pile are seen")
+    void testHandAndPileAreSeen() {
+        final Card redFive = card(Color.RED, Values.FIVE);
+        hand.add(redFive);
+        observation.onGameStarted(GameEvent.STANDARD, card(Color.RED, Values.ONE));
+
+        assertTrue(tracker.isReady());
+        assertEquals(template.getCards().size() - 2, tracker.getUnseenTotal());
+        assertEquals(deckCount(Color.RED) - 2, tracker.getUnseenCount(Color.RED));
+        assertEquals(deckCount(Color.BLUE), tracker.getUnseenCount(Color.BLUE));
+
+        final int copies = tracker.getUnseenCount(redFive);
+        hand.remove(redFive);
+        observation.onCardPlayed(SELF, redFive);
+        assertEquals(copies, tracker.getUnseenCount(redFive), "Playing an own card reveals nothing new");
+
+        final Card blueFive = card(Color.BLUE, Values.FIVE);
+        final int fives = tracker.getUnseenCount(Values.FIVE);
+        observation.onCardPlayed(OPPONENT, blueFive);
+        assertEquals(fives - 1, tracker.getUnseenCount(Values.FIVE));
+        assertEquals(deckCount(Color.BLUE) - 1, tracker.getUnseenCount(Color.BLUE));
+    }
+
+    @Test
+    @DisplayName("Wild cards are counted as held, whatever the declared color")
+    void testWildCountsAsBlack() {
+        observation.onGameStarted(GameEvent.STANDARD, card(Color.RED, Values.ONE));
+        final Card wild = card(Color.BLACK, Values.WILD);
+        final int wilds = tracker.getUnseenCount(wild);
+        final int reds = tracker.getUnseenCount(Color.RED);
+
+        final Card declared = wild.withColor(Color.RED);
+        observation.onCardPlayed(OPPONENT, declared);
+        assertEquals(wilds - 1, tracker.getUnseenCount(wild));
+        assertEquals(wilds - 1, tracker.getUnseenCount(declared), "Declared Wild cards count as the Wild card");
+        assertEquals(reds, tracker.getUnseenCount(Color.RED), "A declared color is not a red card");
+        assertEquals(deckCount(Color.BLACK) - 1, tracker.getUnseenCount(Color.BLACK));
+    }
+
+    @Test
+    @DisplayName("A refill puts the discard pile back among the unseen cards, except the top card")
+    void testRefillRestoresPile() {
+        observation.onGameStarted(GameEvent.STANDARD, card(Color.RED, Values.ONE));
+        observation.onCardPlayed(OPPONENT, card(Color.RED, Values.TWO));
+        observation.onCardPlayed(OPPONENT, card(Color.BLUE, Values.TWO));
+        final int total = template.getCards().size();
+        assertEquals(total - 3, tracker.getUnseenTotal());
+
+        observation.onDeckRefilled(total - 1);
+        assertEquals(total - 1, tracker.getUnseenTotal(), "Only the top card stays seen");
+        assertEquals(deckCount(Color.RED), tracker.getUnseenCount(Color.RED));
+        assertEquals(deckCount(Color.BLUE) - 1, tracker.getUnseenCount(Color.BLUE));
+
+        observation.onCardPlayed(OPPONENT, card(Color.BLUE, Values.THREE));
+        observation.onDeckRefilled(total - 1);
+        assertEquals(deckCount(Color.BLUE) - 1, tracker.getUnseenCount(Color.BLUE),
+                "The previous top card is recycled by the next refill");
+    }
+}
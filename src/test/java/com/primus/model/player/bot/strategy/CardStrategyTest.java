@@ -1,10 +1,17 @@
 package com.primus.model.player.bot.strategy;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
 import com.primus.model.deck.PrimusCard;
 import com.primus.model.deck.Values;
+import com.primus.model.player.Hand;
 import com.primus.model.player.bot.OpponentInfo;
+import com.primus.model.player.bot.OpponentModel;
+import com.primus.model.player.bot.TableObservation;
+import com.primus.model.player.bot.UnseenCardTracker;
 import com.primus.model.player.bot.strategy.card.AggressiveStrategy;
 import com.primus.model.player.bot.strategy.card.CardStrategy;
 import com.primus.model.player.bot.strategy.card.CheaterStrategy;
@@ -20,6 +27,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CardStrategyTest {
 
+    private static final int VICTIM_ID = 99;
+    private static final int HAND_SIZE = 7;
+
     private Card card(final Color c, final Values v) {
         return new PrimusCard(c, v);
     }
@@ -131,4 +141,44 @@ class CardStrategyTest {
         assertTrue(result.isPresent());
         assertEquals(blueCard, result.get(), "Cheater should switch to Blue purely because victim has many Reds");
     }
+
+    @Test
+    void testFairCheaterPlaysColorVictimLacks() {
+        // Scenario: the victim drew on a red five, so it holds no red card
+        final Hand hand = new Hand();
+        final TableObservation observation = new TableObservation(VICTIM_ID + 1, hand.asList());
+        final OpponentModel model = new OpponentModel(observation);
+        final CardTable table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+        observation.onGameStarted(GameEvent.STANDARD, table.intern(new PrimusCard(Color.RED, Values.FIVE)));
+        observation.onPlayerSeated(VICTIM_ID, 3, true);
+        observation.onCardsDrawn(VICTIM_ID, 1);
+        final CardStrategy strategy = new CheaterStrategy(model.viewOf(VICTIM_ID),
+                new UnseenCardTracker(observation, hand));
+        final Card blueCard = table.intern(new PrimusCard(Color.BLUE, Values.FIVE));
+        final Card redCard = table.intern(new PrimusCard(Color.RED, Values.SEVEN));
+        final Optional<Card> result = strategy.chooseCard(List.of(blueCard, redCard));
+        assertTrue(result.isPresent());
+        assertEquals(redCard, result.get(), "Cheater should play the color the victim provably lacks");
+    }
+
+    @Test
+    void testFairCheaterPlaysDrawTwoOnUnknownVictim() {
+        // Scenario: nothing is known about the victim, which is unlikely to hold one of the few draw twos
+        final Hand hand = new Hand();
+        final TableObservation observation = new TableObservation(VICTIM_ID + 1, hand.asList());
+        final OpponentModel model = new OpponentModel(observation);
+        final CardTable table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+        final Card drawTwo = table.intern(new PrimusCard(Color.BLUE, Values.DRAW_TWO));
+        final Card blueCard = table.intern(new PrimusCard(Color.BLUE, Values.FIVE));
+        hand.add(drawTwo);
+        hand.add(blueCard);
+        observation.onGameStarted(GameEvent.STANDARD, table.intern(new PrimusCard(Color.BLUE, Values.SEVEN)));
+        observation.onPlayerSeated(VICTIM_ID + 1, hand.size(), true);
+        observation.onPlayerSeated(VICTIM_ID, HAND_SIZE, false);
+        final CardStrategy strategy = new CheaterStrategy(model.viewOf(VICTIM_ID),
+                new UnseenCardTracker(observation, hand));
+        final Optional<Card> result = strategy.chooseCard(List.of(blueCard, drawTwo));
+        assertTrue(result.isPresent());
+        assertEquals(drawTwo, result.get(), "Fair Cheater should attack a victim it knows nothing about");
+    }
 }
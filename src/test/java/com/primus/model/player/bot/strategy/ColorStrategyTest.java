@@ -1,9 +1,15 @@
 package com.primus.model.player.bot.strategy;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
 import com.primus.model.deck.PrimusCard;
 import com.primus.model.deck.Values;
+import com.primus.model.player.Hand;
+import com.primus.model.player.bot.TableObservation;
+import com.primus.model.player.bot.UnseenCardTracker;
 import com.primus.model.player.bot.strategy.color.ColorStrategy;
 import com.primus.model.player.bot.strategy.color.MostFrequentColorStrategy;
 import com.primus.model.player.bot.strategy.color.RandomColorStrategy;
@@ -66,4 +72,22 @@ class ColorStrategyTest {
         final Color result = strategy.chooseColor(hand);
         assertEquals(Color.RED, result);
     }
+
+    @Test
+    void testMostFrequentStrategyPrefersFewerUnseenCards() {
+        final Hand hand = new Hand();
+        final TableObservation observation = new TableObservation(1, hand.asList());
+        final UnseenCardTracker tracker = new UnseenCardTracker(observation, hand);
+        final CardTable table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+        final Card blueFive = table.intern(new PrimusCard(Color.BLUE, Values.FIVE));
+        final Card greenFive = table.intern(new PrimusCard(Color.GREEN, Values.FIVE));
+        hand.addAll(List.of(blueFive, greenFive));
+        observation.onGameStarted(GameEvent.STANDARD, table.intern(new PrimusCard(Color.GREEN, Values.ONE)));
+
+        final ColorStrategy strategy = new MostFrequentColorStrategy(tracker);
+        assertEquals(Color.GREEN, strategy.chooseColor(hand.asList()),
+                "Blue and green tie, but fewer green cards are unseen");
+        hand.add(table.intern(new PrimusCard(Color.BLUE, Values.SIX)));
+        assertEquals(Color.BLUE, strategy.chooseColor(hand.asList()), "The most frequent color still comes first");
+    }
 }
@@ -0,0 +1,120 @@
+package com.primus.model.player.bot.strategy;
+
+import com.primus.model.core.TournamentRunnerImpl;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.player.Player;
+import com.primus.model.player.bot.TableObservation;
+import com.primus.model.player.bot.strategy.card.IsmctsStrategy;
+import com.primus.utils.SearchBudget;
+import com.primus.utils.SearchStats;
+import com.primus.utils.TournamentResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsmctsStrategyTest {
+
+    private static final int SELF = 1;
+    private static final int OPPONENT = 2;
+    private static final int OPPONENT_CARDS = 7;
+    private static final int ITERATIONS = 200;
+    private static final int THREADS = 2;
+    private static final int STRENGTH_ITERATIONS = 500;
+    private static final int PLAYERS = 3;
+    private static final int GAMES = 300;
+    private static final long SEED = 11L;
+
+    private final CardTable table = DeckTemplate.forEvent(GameEvent.STANDARD).getTable();
+
+    private Card card(final Color color, final Values value) {
+        for (int id = 0; id < table.size(); id++) {
+            if (table.get(id).getColor() == color && table.get(id).getValue() == value) {
+                return table.get(id);
+            }
+        }
+        throw new IllegalArgumentException("No " + color + " " + value + " in the table");
+    }
+
+    private IsmctsStrategy seatedStrategy(final long seed, final List<Card> hand) {
+        final TableObservation observation = new TableObservation(SELF, hand);
+        observation.onGameStarted(GameEvent.STANDARD, card(Color.RED, Values.ONE));
+        observation.onPlayerSeated(SELF, hand.size(), true);
+        observation.onPlayerSeated(OPPONENT, OPPONENT_CARDS, true);
+        return new IsmctsStrategy(observation,
+                new SearchBudget(ITERATIONS, SearchBudget.NO_TIME_LIMIT, THREADS), new SplittableRandom(seed));
+    }
+
+    @Test
+    @DisplayName("The search plays the last card instead of drawing")
+    void testPlaysWinningCard() {
+        final Card lastCard = card(Color.RED, Values.FIVE);
+        final IsmctsStrategy strategy = seatedStrategy(SEED, List.of(lastCard));
+
+        assertEquals(Optional.of(lastCard), strategy.chooseCard(List.of(lastCard)),
+                "Playing the last card wins the game");
+        final SearchStats stats = strategy.getStats();
+        assertEquals(1, stats.decisions());
+        assertEquals(ITERATIONS, stats.rollouts(), "The whole iteration budget should be spent");
+    }
+
+    @Test
+    @DisplayName("Searches bounded by iterations are reproducible")
+    void testSeededSearchIsDeterministic() {
+        final List<Card> hand = List.of(card(Color.RED, Values.FIVE), card(Color.BLUE, Values.ONE),
+                card(Color.BLACK, Values.WILD), card(Color.GREEN, Values.TWO));
+        final List<Card> legal = List.of(hand.get(0), hand.get(1), hand.get(2));
+
+        final IsmctsStrategy first = seatedStrategy(SEED, hand);
+        final IsmctsStrategy second = seatedStrategy(SEED, hand);
+        assertEquals(first.chooseCard(legal), second.chooseCard(legal),
+                "The same seed should lead to the same card");
+        assertEquals(first.getChosenColor(), second.getChosenColor(), "The same seed should lead to the same color");
+    }
+
+    @Test
+    @DisplayName("Budgets bounded by iterations do not depend on the number of cores")
+    void testDefaultParallelismIsFixed() {
+        assertEquals(SearchBudget.DEFAULT_PARALLELISM, SearchBudget.ofIterations(ITERATIONS).parallelism());
+    }
+
+    @Test
+    @DisplayName("Without observing the game the strategy falls back to the aggressive one")
+    void testFallbackWithoutObservation() {
+        final Card weak = card(Color.RED, Values.ONE);
+        final Card strong = card(Color.BLACK, Values.WILD_DRAW_FOUR);
+        final IsmctsStrategy strategy = new IsmctsStrategy(new TableObservation(SELF, List.of(weak, strong)),
+                SearchBudget.ofIterations(ITERATIONS), new SplittableRandom(SEED));
+
+        assertEquals(Optional.of(strong), strategy.chooseCard(List.of(weak, strong)));
+        assertTrue(strategy.getChosenColor().isEmpty(), "No color is searched by the fallback");
+        assertEquals(0, strategy.getStats().rollouts(), "No search should have been run");
+    }
+
+    @Test
+    @DisplayName("Sapiens wins significantly more than its share against the heuristic bots")
+    void testStrongerThanHeuristicBots() {
+        // The search wins about 41% of these three-player games: over that many games, the fair share plus two
+        // standard deviations is a margin luck alone rarely reaches
+        final SearchBudget budget = new SearchBudget(STRENGTH_ITERATIONS, SearchBudget.NO_TIME_LIMIT, 1);
+        final TournamentResult result = new TournamentRunnerImpl(factory -> {
+            final Player sapiens = factory.createSapiens(SELF, budget);
+            return List.of(sapiens, factory.createImplacabilis(OPPONENT), factory.createFallax(OPPONENT + 1, sapiens));
+        }, GameEvent.STANDARD, THREADS).run(GAMES, SEED);
+
+        final double share = (double) GAMES / PLAYERS;
+        final double deviation = Math.sqrt(share * (1 - 1.0 / PLAYERS));
+        assertTrue(result.winsOf(SELF) > share + 2 * deviation, "Sapiens should win more than "
+                + Math.round(share + 2 * deviation) + " of " + GAMES + " games, won " + result.winsOf(SELF));
+    }
+}
@@ -0,0 +1,59 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.PrimusCard;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrecomputedValidatorTest {
+
+    private final Validator reference = new ValidatorImpl();
+
+    @Test
+    @DisplayName("Precomputed tables agree with the standard rules for every event")
+    void testConsistentWithRules() {
+        for (final GameEvent event : GameEvent.values()) {
+            final PrecomputedValidator validator = PrecomputedValidator.forEvent(event);
+            final CardTable table = validator.getTable();
+            for (int top = 0; top < table.size(); top++) {
+                for (int id = 0; id < table.size(); id++) {
+                    final Card topCard = table.get(top);
+                    final Card card = table.get(id);
+                    assertEquals(reference.isValidCard(topCard, card), validator.isValidCard(topCard, card),
+                            () -> event + ": playability of " + card + " on " + topCard);
+                    assertEquals(reference.isValidDefense(topCard, card), validator.isValidDefense(topCard, card),
+                            () -> event + ": defense of " + card + " against " + topCard);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Validators are shared per event")
+    void testCachedPerEvent() {
+        assertSame(PrecomputedValidator.forEvent(GameEvent.STANDARD), PrecomputedValidator.forEvent(GameEvent.STANDARD),
+                "The same event should reuse its tables");
+    }
+
+    @Test
+    @DisplayName("Cards outside the table fall back to the standard rules")
+    void testForeignCards() {
+        final Validator validator = PrecomputedValidator.forEvent(GameEvent.STANDARD);
+        final Card top = new PrimusCard(Color.RED, Values.FOUR);
+        final List<Card> hand = List.of(new PrimusCard(Color.BLUE, Values.SEVEN), new PrimusCard(Color.RED, Values.NINE));
+
+        assertTrue(validator.isValidCard(top, hand.get(1)), "Matching color should be valid");
+        assertEquals(reference.legalMoves(top, hand, false), validator.legalMoves(top, hand, false),
+                "Legal moves should follow the standard rules");
+    }
+}
@@ -7,6 +7,10 @@ import com.primus.model.deck.Values;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,4 +79,31 @@ class ValidatorTest {
         final Card toValidate = new PrimusCard(Color.BLUE, Values.DRAW_TWO);
         assertFalse(validator.isValidDefense(topCard, toValidate), "Non penalty card should not allow any defense.");
     }
+
+    @Test
+    void testLegalMovesStandard() {
+        final Card topCard = new PrimusCard(Color.RED, Values.FOUR);
+        final List<Card> hand = List.of(
+                new PrimusCard(Color.BLUE, Values.SEVEN),
+                new PrimusCard(Color.RED, Values.NINE),
+                new PrimusCard(Color.GREEN, Values.FOUR),
+                new PrimusCard(Color.BLACK, Values.WILD));
+        final BitSet expected = new BitSet();
+        expected.set(1, hand.size());
+        assertEquals(expected, validator.legalMoves(topCard, hand, false),
+                "Every card but the unmatched one should be legal.");
+    }
+
+    @Test
+    void testLegalMovesUnderMalus() {
+        final Card topCard = new PrimusCard(Color.RED, Values.DRAW_TWO);
+        final List<Card> hand = List.of(
+                new PrimusCard(Color.RED, Values.NINE),
+                new PrimusCard(Color.BLUE, Values.DRAW_TWO),
+                new PrimusCard(Color.BLACK, Values.WILD_DRAW_FOUR));
+        final BitSet expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, validator.legalMoves(topCard, hand, true),
+                "Only a DRAW_TWO should defend against a DRAW_TWO.");
+    }
 }
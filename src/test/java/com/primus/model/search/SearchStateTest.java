@@ -0,0 +1,252 @@
+package com.primus.model.search;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardTable;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplate;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.PrimusDeck;
+import com.primus.model.deck.PrimusDropPile;
+import com.primus.model.deck.Values;
+import com.primus.model.rules.PrecomputedValidator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchStateTest {
+
+    private static final int PLAYERS = 3;
+    private static final int HAND_SIZE = 7;
+    private static final int PLAYOUTS = 50;
+    private static final int MAX_DEPTH = 400;
+    private static final long SEED = 42L;
+    private static final int KEPT_CARDS = 3;
+    private static final int MALUS = 4;
+
+    private CardTable table;
+    private SearchState state;
+    private SplittableRandom random;
+
+    @BeforeEach
+    void setUp() {
+        final PrecomputedValidator rules = PrecomputedValidator.forEvent(GameEvent.TOTAL_CHAOS);
+        table = rules.getTable();
+        random = new SplittableRandom(SEED);
+        state = new SearchState(rules, PLAYERS, random.split());
+    }
+
+    private int id(final Color color, final Values value) {
+        for (int id = 0; id < table.size(); id++) {
+            if (table.get(id).getColor() == color && table.get(id).getValue() == value) {
+                return id;
+            }
+        }
+        throw new IllegalArgumentException("No " + color + " " + value + " in the table");
+    }
+
+    private void deal() {
+        final List<Card> cards = new ArrayList<>(DeckTemplate.forEvent(GameEvent.TOTAL_CHAOS).getCards());
+        for (int i = cards.size() - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            cards.set(j, cards.set(i, cards.get(j)));
+        }
+        state.clear();
+        int next = 0;
+        for (int seat = 0; seat < PLAYERS; seat++) {
+            for (int i = 0; i < HAND_SIZE; i++) {
+                state.addToHand(seat, cards.get(next++).getId());
+            }
+        }
+        state.addToDiscard(cards.get(next++).withColor(Color.RED).getId());
+        while (next < cards.size()) {
+            state.addToDeck(cards.get(next++).getId());
+        }
+    }
+
+    private List<Integer> snapshot() {
+        final List<Integer> values = new ArrayList<>(List.of(state.getCurrentSeat(), state.isClockwise() ? 1 : 0,
+                state.getMalus(), state.getWinner(), state.getTopCard(), state.getDeckSize(),
+                state.getRecyclableCount()));
+        for (int seat = 0; seat < PLAYERS; seat++) {
+            values.add(state.getHandSize(seat));
+            for (int id = 0; id < table.size(); id++) {
+                values.add(state.getCount(seat, id));
+            }
+        }
+        for (int i = 0; i < state.getDeckSize(); i++) {
+            values.add(state.getDeckCard(i));
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("Undoing every move of random playouts restores the initial position")
+    void testApplyUndoRoundTrip() {
+        final int[] moves = new int[state.maxMoves()];
+        for (int playout = 0; playout < PLAYOUTS; playout++) {
+            deal();
+            final List<Integer> initial = snapshot();
+            while (!state.isTerminal() && state.getDepth() < MAX_DEPTH) {
+                final int count = state.legalMoves(moves);
+                state.apply(moves[random.nextInt(count)]);
+            }
+            while (state.getDepth() > 0) {
+                state.undo();
+            }
+            assertEquals(initial, snapshot(), "Undo should restore the exact position");
+        }
+    }
+
+    @Test
+    @DisplayName("Skip, reverse and malus follow the game rules")
+    void testCardEffects() {
+        state.clear();
+        state.addToDiscard(id(Color.RED, Values.ONE));
+        state.addToHand(0, id(Color.RED, Values.SKIP));
+        state.addToHand(0, id(Color.RED, Values.TWO));
+        state.apply(id(Color.RED, Values.SKIP));
+        assertEquals(2, state.getCurrentSeat(), "Skip should jump over the next seat");
+
+        state.addToHand(2, id(Color.RED, Values.REVERSE));
+        state.addToHand(2, id(Color.RED, Values.THREE));
+        state.apply(id(Color.RED, Values.REVERSE));
+        assertEquals(1, state.getCurrentSeat(), "Reverse should pass the turn backwards");
+
+        state.addToHand(1, id(Color.RED, Values.DRAW_TWO));
+        state.addToHand(1, id(Color.BLUE, Values.FOUR));
+        state.apply(id(Color.RED, Values.DRAW_TWO));
+        assertTrue(state.getMalus() > 0, "Draw cards should start a malus");
+        assertThrows(IllegalArgumentException.class, () -> state.apply(id(Color.RED, Values.THREE)),
+                "Only defenses should be legal under malus");
+
+        state.undo();
+        state.undo();
+        state.undo();
+        assertEquals(0, state.getCurrentSeat(), "Undo should give the turn back");
+        assertEquals(2, state.getHandSize(0), "Undo should give the card back");
+    }
+
+    @Test
+    @DisplayName("Drawing from an empty deck recycles the discard pile and undo puts it back")
+    void testRefillUndo() {
+        state.clear();
+        final int redOne = id(Color.RED, Values.ONE);
+        final int redTwo = id(Color.RED, Values.TWO);
+        state.addToDiscard(redOne);
+        state.addToDiscard(table.get(id(Color.BLACK, Values.WILD)).withColor(Color.BLUE).getId());
+        state.addToDiscard(redTwo);
+        state.addToHand(0, redOne);
+        state.addToHand(0, redTwo);
+
+        state.apply(SearchState.DRAW);
+        assertEquals(3, state.getHandSize(0), "One card should be drawn after the refill");
+        assertEquals(1, state.getDeckSize(), "The other recycled card should be in the deck");
+        assertEquals(redTwo, state.getTopCard(), "The top card should stay on the discard pile");
+
+        state.undo();
+        assertEquals(0, state.getDeckSize(), "Undo should empty the deck again");
+        assertEquals(2, state.getRecyclableCount(), "Undo should give the cards back to the discard pile");
+        assertThrows(IllegalStateException.class, state::undo, "Nothing should be left to undo");
+    }
+
+    @Test
+    @DisplayName("A copied position evolves independently of its source")
+    void testCopyFrom() {
+        deal();
+        final SearchState copy = new SearchState(state.getRules(), PLAYERS, random.split());
+        copy.copyFrom(state);
+        final List<Integer> initial = snapshot();
+
+        final int[] moves = new int[copy.maxMoves()];
+        while (!copy.isTerminal() && copy.getDepth() < MAX_DEPTH) {
+            copy.apply(moves[random.nextInt(copy.legalMoves(moves))]);
+        }
+        assertEquals(initial, snapshot(), "Playing on the copy should not change the source");
+
+        copy.copyFrom(state);
+        final SearchState source = state;
+        state = copy;
+        assertEquals(initial, snapshot(), "Copying again should reset the copy");
+        assertEquals(0, copy.getDepth(), "A copy should start without undo history");
+        state = source;
+
+        final SearchState other = new SearchState(state.getRules(), PLAYERS + 1, random.split());
+        assertThrows(IllegalArgumentException.class, () -> other.copyFrom(state),
+                "Positions with another number of seats cannot be copied");
+    }
+
+    @Test
+    @DisplayName("A refill shuffles the cards left and the recycled ones exactly like the game deck")
+    void testRefillMatchesDeck() {
+        final RestartableRandom deckRandom = new RestartableRandom();
+        final PrimusDeck deck = new PrimusDeck(deckRandom);
+        deck.init();
+        final PrimusDropPile pile = new PrimusDropPile();
+        while (deck.size() > KEPT_CARDS) {
+            pile.addCard(deck.drawCard());
+        }
+        final RestartableRandom stateRandom = new RestartableRandom();
+        final SearchState mirror = new SearchState(PrecomputedValidator.forEvent(GameEvent.STANDARD), PLAYERS,
+                stateRandom);
+        final List<Integer> kept = new ArrayList<>();
+        for (int i = 0; i < deck.size(); i++) {
+            mirror.addToDeck(deck.getCard(i).getId());
+            kept.add(deck.getCard(i).getId());
+        }
+        for (int i = 0; i < pile.size(); i++) {
+            mirror.addToDiscard(pile.getCard(i).getId());
+        }
+        mirror.setMalus(MALUS);
+
+        deckRandom.restart(SEED);
+        stateRandom.restart(SEED);
+        deck.refillFrom(pile);
+        final List<Card> drawn = deck.drawCards(MALUS);
+        mirror.apply(SearchState.DRAW);
+
+        final List<Integer> drawnIds = drawn.stream().map(Card::getId).toList();
+        for (final int id : drawnIds) {
+            assertEquals(Collections.frequency(drawnIds, id), mirror.getCount(0, id),
+                    "Both should draw the same cards");
+        }
+        assertEquals(deck.size(), mirror.getDeckSize(), "Both should recycle the same cards");
+        for (int i = 0; i < deck.size(); i++) {
+            assertEquals(deck.getCard(i).getId(), mirror.getDeckCard(i), "Both should shuffle the same way");
+        }
+
+        mirror.undo();
+        final List<Integer> restored = new ArrayList<>();
+        for (int i = 0; i < mirror.getDeckSize(); i++) {
+            restored.add(mirror.getDeckCard(i));
+        }
+        assertEquals(kept, restored, "Undo should give back the cards left before the refill, in their order");
+    }
+
+    /**
+     * Generator replaying the stream of a seed from the start every time it is restarted.
+     */
+    private static final class RestartableRandom implements RandomGenerator {
+
+        private SplittableRandom delegate = new SplittableRandom();
+
+        private void restart(final long seed) {
+            delegate = new SplittableRandom(seed);
+        }
+
+        @Override
+        public long nextLong() {
+            return delegate.nextLong();
+        }
+    }
+}